@@ -0,0 +1,85 @@
+package com.plantilla.apiestudiantes.benchmark;
+
+import com.plantilla.apiestudiantes.dto.CursoDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la validación Bean Validation de {@link CursoDto} que ejecuta {@code PUT /curso/modificar}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CursoDtoValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    private CursoDto cursoValido;
+
+    private CursoDto cursoInvalido;
+
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        Date fechaFutura = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(365));
+
+        cursoValido = CursoDto.builder()
+                .nombre("Programacion I")
+                .modalidad("Virtual")
+                .fecha_finalizacion(fechaFutura)
+                .listaTemasId(List.of(1L, 2L, 3L))
+                .build();
+
+        // Viola @Null en id, @NotBlank en nombre y modalidad.
+        cursoInvalido = CursoDto.builder()
+                .id(1L)
+                .nombre(" ")
+                .modalidad("")
+                .fecha_finalizacion(fechaFutura)
+                .build();
+    }
+
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+
+    @Benchmark
+    public Set<ConstraintViolation<CursoDto>> validarCursoValido() {
+        return validator.validate(cursoValido);
+    }
+
+
+    @Benchmark
+    public Set<ConstraintViolation<CursoDto>> validarCursoInvalido() {
+        return validator.validate(cursoInvalido);
+    }
+}
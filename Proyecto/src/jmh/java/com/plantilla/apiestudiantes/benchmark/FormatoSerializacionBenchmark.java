@@ -0,0 +1,107 @@
+package com.plantilla.apiestudiantes.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.plantilla.apiestudiantes.dto.CursoDto;
+import com.plantilla.apiestudiantes.dto.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Compara JSON, CBOR y Smile para una página de cursos ({@code Response<List<CursoDto>>}): tiempo de serialización
+ * y de lectura por respuesta. El tamaño de cada formato se imprime al preparar el benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatoSerializacionBenchmark {
+
+    private static final TypeReference<Response<List<CursoDto>>> TIPO = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    @Param({"10", "100"})
+    private int tamanioPagina;
+
+    @Param({"10"})
+    private int temasPorCurso;
+
+    private ObjectMapper objectMapper;
+
+    private Response<List<CursoDto>> response;
+
+    private byte[] serializada;
+
+
+    @Setup
+    public void setUp() throws Exception {
+        // Misma configuración relevante que los convertidores de FormatosBinariosConfig.
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(formato))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<CursoDto> cursos = new ArrayList<>();
+        for (long id = 1; id <= tamanioPagina; id++) {
+            cursos.add(CursoDto.builder()
+                    .id(id)
+                    .nombre("Curso " + id)
+                    .modalidad("Presencial")
+                    .fecha_finalizacion(new Date())
+                    .listaTemasId(LongStream.range(0, temasPorCurso).boxed().toList())
+                    .version(0L)
+                    .build());
+        }
+        response = new Response<>(true, "", cursos);
+        serializada = objectMapper.writeValueAsBytes(response);
+
+        System.out.printf("%n%s, %d cursos: %d bytes por respuesta%n", formato, tamanioPagina, serializada.length);
+    }
+
+
+    @Benchmark
+    public byte[] serializar() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+
+    @Benchmark
+    public Response<List<CursoDto>> leer() throws Exception {
+        return objectMapper.readValue(serializada, TIPO);
+    }
+
+
+
+    private static JsonFactory factory(String formato) {
+        return switch (formato) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.plantilla.apiestudiantes.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la resolución de los mensajes {@code curso.*} que arma cada respuesta del servicio de cursos.
+ * Usa el mismo tipo de {@code MessageSource} que configura Spring Boot con {@code messages.properties}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageSourceBenchmark {
+
+    private ResourceBundleMessageSource messageSource;
+
+    private final Locale locale = Locale.getDefault();
+
+
+    @Setup
+    public void setUp() {
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+    }
+
+
+    @Benchmark
+    public String mensajeSinArgumentos() {
+        return messageSource.getMessage("curso.getAll.success", null, locale);
+    }
+
+
+    @Benchmark
+    public String mensajeConArgumento() {
+        return messageSource.getMessage("curso.get.success", new Object[]{"Programacion I"}, locale);
+    }
+
+
+    @Benchmark
+    public String mensajeDeValidacion() {
+        return messageSource.getMessage("curso.validate.modality.error", new Object[]{"Hibrida"}, locale);
+    }
+}
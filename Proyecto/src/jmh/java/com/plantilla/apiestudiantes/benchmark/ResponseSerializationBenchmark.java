@@ -0,0 +1,152 @@
+package com.plantilla.apiestudiantes.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.plantilla.apiestudiantes.config.json.CursoJsonModule;
+import com.plantilla.apiestudiantes.dto.CursoDto;
+import com.plantilla.apiestudiantes.dto.CursoSliceDto;
+import com.plantilla.apiestudiantes.dto.PageDto;
+import com.plantilla.apiestudiantes.dto.Response;
+import com.plantilla.apiestudiantes.model.Curso;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Mide la serialización JSON de las respuestas de cursos: /cursos/listar ({@code Response<Page<CursoDto>>}),
+ * /curso/mostrar/{id} ({@code Response<CursoDto>}) y /cursos/listar/cursor.
+
+ * Con {@code serializadores=reflexion} se usa el serializador de beans de Jackson y la porción por cursor se mapea
+ * a una lista de {@code CursoDto}, como antes de {@link CursoJsonModule}; con {@code manual}, los serializadores
+ * del módulo. La memoria asignada por respuesta se compara con {@code gc.alloc.rate.norm} ({@code -prof gc},
+ * incluido en {@code jmh.args}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"reflexion", "manual"})
+    private String serializadores;
+
+    @Param({"10", "100"})
+    private int tamanioPagina;
+
+    @Param({"0", "10"})
+    private int temasPorCurso;
+
+    private ObjectMapper objectMapper;
+
+    private Response<Page<CursoDto>> response;
+
+    private Response<CursoDto> responseCurso;
+
+    private List<Curso> entidades;
+
+    private Map<Long, List<Long>> temasPorCursoId;
+
+
+    @Setup
+    public void setUp() {
+        // Misma configuración relevante que el ObjectMapper de Spring Boot.
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("manual".equals(serializadores)) {
+            builder.modulesToInstall(new CursoJsonModule());
+        }
+        objectMapper = builder.build();
+
+        List<CursoDto> cursos = new ArrayList<>();
+        entidades = new ArrayList<>();
+        temasPorCursoId = new HashMap<>();
+        for (long id = 1; id <= tamanioPagina; id++) {
+            Date fechaFinalizacion = new Date();
+            List<Long> temasId = LongStream.range(0, temasPorCurso).boxed().toList();
+
+            cursos.add(CursoDto.builder()
+                    .id(id)
+                    .nombre("Curso " + id)
+                    .modalidad("Presencial")
+                    .fecha_finalizacion(fechaFinalizacion)
+                    .listaTemasId(temasId)
+                    .version(0L)
+                    .build());
+            entidades.add(Curso.builder()
+                    .id(id)
+                    .nombre("Curso " + id)
+                    .modalidad("Presencial")
+                    .fecha_finalizacion(fechaFinalizacion)
+                    .version(0L)
+                    .build());
+            temasPorCursoId.put(id, temasId);
+        }
+
+        Page<CursoDto> pagina = new PageDto<>(cursos, PageRequest.of(0, tamanioPagina), 10_000, true);
+        response = new Response<>(true, "", pagina);
+        responseCurso = new Response<>(true, "Curso 1 recuperado con éxito.", cursos.get(0));
+    }
+
+
+    @Benchmark
+    public byte[] serializarPagina() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+
+    @Benchmark
+    public byte[] serializarCurso() throws Exception {
+        return objectMapper.writeValueAsBytes(responseCurso);
+    }
+
+
+    // Incluye el mapeo de las entidades, que con los serializadores manuales ya no se hace.
+    @Benchmark
+    public byte[] serializarPorcionCursor() throws Exception {
+        String nextCursor = "MTA";
+        if ("manual".equals(serializadores)) {
+            return objectMapper.writeValueAsBytes(new Response<>(true, "",
+                    new CursoSliceDto(entidades, temasPorCursoId, tamanioPagina, true, nextCursor)));
+        }
+
+        List<CursoDto> cursosDto = entidades.stream()
+                .map(curso -> CursoDto.builder()
+                        .id(curso.getId())
+                        .nombre(curso.getNombre())
+                        .modalidad(curso.getModalidad())
+                        .fecha_finalizacion(curso.getFecha_finalizacion())
+                        .listaTemasId(temasPorCursoId.getOrDefault(curso.getId(), List.of()))
+                        .version(curso.getVersion())
+                        .build())
+                .toList();
+        return objectMapper.writeValueAsBytes(new Response<>(true, "",
+                new PorcionDto(cursosDto, tamanioPagina, true, nextCursor)));
+    }
+
+
+
+    // Forma de la porción por cursor antes de CursoSliceDto.
+    public record PorcionDto(List<CursoDto> content, int size, boolean hasNext, String nextCursor) {
+    }
+}
@@ -0,0 +1,304 @@
+package com.plantilla.apiestudiantes.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.plantilla.apiestudiantes.ApiEstudiantesApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark de carga HTTP de punta a punta.
+
+ * Inicia la aplicación con el perfil {@code h2} y el dataset indicado, genera tráfico mixto de lectura y
+ * escritura con varios clientes concurrentes y escribe un reporte JSON con throughput, latencias
+ * p50/p99/p999 y tasa de error por endpoint.
+
+ * Los parámetros se reciben como argumentos {@code clave=valor}:
+ * <ul>
+ *     <li>{@code cursos}, {@code temasPorCurso}: tamaño del dataset (por defecto 100000 y 10).</li>
+ *     <li>{@code threads}: clientes concurrentes (por defecto 32).</li>
+ *     <li>{@code warmup}, {@code duration}: segundos de calentamiento y de medición (por defecto 10 y 60).</li>
+ *     <li>{@code report}: archivo del reporte (por defecto {@code target/loadtest-report.json}).</li>
+ *     <li>{@code virtualThreads}: {@code false} (por defecto), {@code true} o {@code both} para comparar
+ *     hilos de plataforma y virtuales en la misma ejecución (los hilos virtuales requieren Java 21).</li>
+ *     <li>Cualquier otro argumento {@code spring.*} o {@code app.*} se pasa como propiedad a la aplicación.</li>
+ * </ul>
+ */
+public class LoadBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opciones = parseArgs(args);
+
+        long cursos = Long.parseLong(opciones.getOrDefault("cursos", "100000"));
+        int temasPorCurso = Integer.parseInt(opciones.getOrDefault("temasPorCurso", "10"));
+        int threads = Integer.parseInt(opciones.getOrDefault("threads", "32"));
+        int warmup = Integer.parseInt(opciones.getOrDefault("warmup", "10"));
+        int duration = Integer.parseInt(opciones.getOrDefault("duration", "60"));
+        File reporte = new File(opciones.getOrDefault("report", "target/loadtest-report.json"));
+
+        List<String> propiedades = new ArrayList<>(List.of(
+                "server.port=0",
+                "app.seed.cursos=" + cursos,
+                "app.seed.temas-por-curso=" + temasPorCurso));
+        opciones.forEach((clave, valor) -> {
+            if (clave.startsWith("spring.") || clave.startsWith("app.") || clave.startsWith("server.")) {
+                propiedades.add(clave + "=" + valor);
+            }
+        });
+
+        // virtualThreads=both ejecuta el mismo escenario con hilos de plataforma y con hilos virtuales (requiere Java 21).
+        String virtualThreads = opciones.getOrDefault("virtualThreads", "false");
+        List<Boolean> modos = virtualThreads.equalsIgnoreCase("both")
+                ? List.of(false, true)
+                : List.of(Boolean.parseBoolean(virtualThreads));
+
+        Map<String, Object> salida = new LinkedHashMap<>();
+        salida.put("dataset", Map.of("cursos", cursos, "temasPorCurso", temasPorCurso));
+        salida.put("threads", threads);
+        salida.put("durationSeconds", duration);
+        salida.put("javaVersion", Runtime.version().toString());
+        salida.put("properties", propiedades);
+
+        Map<String, Object> ejecuciones = new LinkedHashMap<>();
+        for (boolean virtual : modos) {
+            List<String> propiedadesModo = new ArrayList<>(propiedades);
+            propiedadesModo.add("spring.threads.virtual.enabled=" + virtual);
+            ejecuciones.put(virtual ? "virtual" : "platform",
+                    ejecutarAplicacion(propiedadesModo, cursos, threads, warmup, duration));
+        }
+        salida.put("runs", ejecuciones);
+
+        reporte.getParentFile().mkdirs();
+        MAPPER.writeValue(reporte, salida);
+        System.out.println(MAPPER.writeValueAsString(salida));
+    }
+
+
+    // Inicia la aplicación, ejecuta calentamiento y medición, y devuelve el resumen por endpoint.
+    private static Map<String, Object> ejecutarAplicacion(List<String> propiedades, long cursos, int threads,
+                                                          int warmup, int duration) throws Exception {
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiEstudiantesApplication.class)
+                .profiles("h2")
+                .properties(propiedades.toArray(String[]::new))
+                .run()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Escenario escenario = new Escenario("http://localhost:" + port, cursos);
+
+            ejecutar(escenario, threads, warmup); // Calentamiento: el resultado se descarta.
+            Map<String, Resultado> resultados = ejecutar(escenario, threads, duration);
+
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            resultados.forEach((endpoint, resultado) -> endpoints.put(endpoint, resultado.resumen(duration)));
+            return endpoints;
+        }
+    }
+
+
+    private static Map<String, Resultado> ejecutar(Escenario escenario, int threads, int segundos) throws Exception {
+        long fin = System.nanoTime() + Duration.ofSeconds(segundos).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<Map<String, Resultado>>> clientes = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                clientes.add(executor.submit(() -> escenario.cliente(fin)));
+            }
+
+            Map<String, Resultado> total = new LinkedHashMap<>();
+            for (Future<Map<String, Resultado>> cliente : clientes) {
+                cliente.get().forEach((endpoint, resultado) ->
+                        total.computeIfAbsent(endpoint, k -> new Resultado()).merge(resultado));
+            }
+            return total;
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opciones = new HashMap<>();
+        for (String arg : args) {
+            int separador = arg.indexOf('=');
+            if (separador > 0) {
+                opciones.put(arg.substring(0, separador), arg.substring(separador + 1));
+            }
+        }
+        return opciones;
+    }
+
+
+
+    // Tráfico mixto: cada cliente elige un endpoint según su peso y espera la respuesta antes de enviar la siguiente.
+    private static class Escenario {
+
+        private final String baseUrl;
+        private final long cursos;
+        // Genera nombres únicos para los cursos y temas creados durante toda la ejecución.
+        private final AtomicLong secuencia = new AtomicLong();
+        private final HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Escenario(String baseUrl, long cursos) {
+            this.baseUrl = baseUrl;
+            this.cursos = cursos;
+        }
+
+
+        Map<String, Resultado> cliente(long fin) {
+            Map<String, Resultado> resultados = new LinkedHashMap<>();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            while (System.nanoTime() < fin) {
+                int sorteo = random.nextInt(100);
+                long cursoId = 1 + random.nextLong(Math.max(cursos, 1));
+                String nombreUnico = Long.toString(secuencia.incrementAndGet(), 36);
+
+                String endpoint;
+                HttpRequest request;
+
+                if (sorteo < 40) {
+                    endpoint = "GET /curso/mostrar/{id}";
+                    request = get("/curso/mostrar/" + cursoId);
+
+                } else if (sorteo < 70) {
+                    endpoint = "GET /cursos/listar";
+                    long paginas = Math.max(cursos / 10, 1);
+                    request = get("/cursos/listar?size=10&page=" + random.nextLong(paginas));
+
+                } else if (sorteo < 85) {
+                    endpoint = "PATCH /curso/modificar/{id}";
+                    request = HttpRequest.newBuilder(URI.create(baseUrl + "/curso/modificar/" + cursoId
+                                    + "?modalidad=" + (random.nextBoolean() ? "Virtual" : "Presencial")))
+                            .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                            .build();
+
+                } else if (sorteo < 95) {
+                    endpoint = "POST /curso/crear";
+                    request = post("/curso/crear", "{\"nombre\":\"L" + nombreUnico + "\",\"modalidad\":\"Virtual\"," +
+                            "\"fecha_finalizacion\":\"2099-12-01\",\"habilitado\":true}");
+
+                } else {
+                    endpoint = "POST /creartema";
+                    request = post("/creartema", "{\"nombre\":\"M" + nombreUnico + "\",\"descripcion\":\"Carga\"," +
+                            "\"curso\":{\"id\":" + cursoId + "}}");
+                }
+
+                resultados.computeIfAbsent(endpoint, k -> new Resultado()).registrar(enviar(request));
+            }
+            return resultados;
+        }
+
+
+        // Devuelve la latencia en nanosegundos, negativa si la respuesta fue un error.
+        private long enviar(HttpRequest request) {
+            long inicio = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                long latencia = Math.max(System.nanoTime() - inicio, 1);
+                return response.statusCode() < 400 ? latencia : -latencia;
+
+            } catch (IOException ex) {
+                return -Math.max(System.nanoTime() - inicio, 1);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return -Math.max(System.nanoTime() - inicio, 1);
+            }
+        }
+
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        }
+
+
+        private HttpRequest post(String path, String json) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+    }
+
+
+
+    // Latencias de un endpoint. Se guardan todas para calcular percentiles exactos.
+    private static class Resultado {
+
+        private long[] latencias = new long[1024];
+        private int cantidad;
+        private long errores;
+
+
+        void registrar(long latencia) {
+            if (latencia < 0) {
+                errores++;
+                latencia = -latencia;
+            }
+            if (cantidad == latencias.length) {
+                latencias = Arrays.copyOf(latencias, cantidad * 2);
+            }
+            latencias[cantidad++] = latencia;
+        }
+
+
+        void merge(Resultado otro) {
+            for (int i = 0; i < otro.cantidad; i++) {
+                registrar(otro.latencias[i]);
+            }
+            errores += otro.errores;
+        }
+
+
+        Map<String, Object> resumen(int segundos) {
+            long[] ordenadas = Arrays.copyOf(latencias, cantidad);
+            Arrays.sort(ordenadas);
+
+            Map<String, Object> resumen = new LinkedHashMap<>();
+            resumen.put("requests", cantidad);
+            resumen.put("throughputPerSecond", (double) cantidad / segundos);
+            resumen.put("errorRate", cantidad == 0 ? 0.0 : (double) errores / cantidad);
+            resumen.put("p50Ms", percentil(ordenadas, 0.50));
+            resumen.put("p99Ms", percentil(ordenadas, 0.99));
+            resumen.put("p999Ms", percentil(ordenadas, 0.999));
+            resumen.put("maxMs", ordenadas.length == 0 ? 0.0 : ordenadas[ordenadas.length - 1] / 1_000_000.0);
+            return resumen;
+        }
+
+
+        private static double percentil(long[] ordenadas, double percentil) {
+            if (ordenadas.length == 0) {
+                return 0.0;
+            }
+            int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+            return ordenadas[Math.max(indice, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.dto.CursoDto;
+import com.plantilla.apiestudiantes.model.Curso;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Mide el mapeo de Curso a CursoDto que ejecutan getCurso y getCursos, según la cantidad de temas del curso.
+ * Está en el paquete del servicio para acceder a los métodos de mapeo protected.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CursoMappingBenchmark {
+
+    private static final int TAMANIO_PAGINA = 20;
+
+    @Param({"0", "10", "1000"})
+    private int temasPorCurso;
+
+    // Los métodos de mapeo no usan las dependencias del servicio.
+    private final CursoService cursoService = new CursoService();
+
+    private Curso curso;
+
+    private List<Long> temasId;
+
+    private Page<Curso> pagina;
+
+    private Map<Long, List<Long>> temasPorCursoPagina;
+
+
+    @Setup
+    public void setUp() {
+        List<Curso> cursos = new ArrayList<>();
+        temasPorCursoPagina = new HashMap<>();
+
+        for (long id = 1; id <= TAMANIO_PAGINA; id++) {
+            Curso cursoPagina = Curso.builder()
+                    .id(id)
+                    .nombre("Curso " + id)
+                    .modalidad("Virtual")
+                    .fecha_finalizacion(new Date())
+                    .habilitado(true)
+                    .build();
+            cursos.add(cursoPagina);
+
+            long primerTema = id * 10_000;
+            temasPorCursoPagina.put(id, LongStream.range(primerTema, primerTema + temasPorCurso).boxed().toList());
+        }
+
+        curso = cursos.get(0);
+        temasId = temasPorCursoPagina.get(curso.getId());
+        pagina = new PageImpl<>(cursos, PageRequest.of(0, TAMANIO_PAGINA), 1_000);
+    }
+
+
+    @Benchmark
+    public CursoDto buildCursoDto() {
+        return cursoService.buildCursoDto(curso, temasId);
+    }
+
+
+    @Benchmark
+    public Page<CursoDto> buildCursoDtoPageable() {
+        // PageImpl.map convierte todo el contenido en el momento.
+        return cursoService.buildCursoDtoPageable(pagina, temasPorCursoPagina);
+    }
+}
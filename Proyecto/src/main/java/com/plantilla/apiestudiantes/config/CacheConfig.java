@@ -0,0 +1,44 @@
+package com.plantilla.apiestudiantes.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.plantilla.apiestudiantes.dto.CursoJsonDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Habilita el soporte de cache de Spring.
+
+ * El {@link org.springframework.cache.CacheManager} lo crea Spring Boot a partir de las propiedades
+ * {@code spring.cache.*} (Caffeine con tamaño máximo y expiración), y sus estadísticas quedan
+ * publicadas en los endpoints de actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CURSOS_CACHE = "cursos";
+
+    // Respuestas de /curso/mostrar/{id} ya serializadas, por curso e idioma. Se limita por bytes en lugar de por cantidad de entradas.
+    public static final String CURSOS_JSON_CACHE = "cursosJson";
+
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cursosJsonCacheCustomizer(
+            @Value("${app.cache.cursos-json.max-bytes:16777216}") long maxBytes,
+            @Value("${app.cache.cursos-json.expire-after-write:10m}") Duration expireAfterWrite) {
+
+        return cacheManager -> cacheManager.registerCustomCache(CURSOS_JSON_CACHE, Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Object clave, Object json) -> ((CursoJsonDto) json).body().length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build());
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.plantilla.apiestudiantes.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Genera el dataset del perfil {@code h2}: {@code app.seed.cursos} cursos, cada uno con
+ * {@code app.seed.temas-por-curso} temas.
+
+ * Inserta con batches JDBC (sin pasar por JPA) y luego reinicia las secuencias de ids
+ * para que los cursos y temas creados por la API no choquen con los generados.
+ */
+@Slf4j
+@Component
+@Profile("h2")
+public class DatasetSeeder implements ApplicationRunner {
+
+    private static final int BATCH = 10_000;
+
+    // Mismo valor que allocationSize de las secuencias de Curso y Tema.
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.seed.cursos:0}")
+    private long cantidadCursos;
+
+    @Value("${app.seed.temas-por-curso:0}")
+    private int temasPorCurso;
+
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (cantidadCursos <= 0) {
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        Date fechaFinalizacion = Date.valueOf(LocalDate.now().plusYears(1));
+        Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> cursos = new ArrayList<>(BATCH);
+        List<Object[]> temas = new ArrayList<>(BATCH);
+        long temaId = 0;
+
+        for (long cursoId = 1; cursoId <= cantidadCursos; cursoId++) {
+            cursos.add(new Object[]{cursoId, "C" + cursoId, cursoId % 2 == 0 ? "Virtual" : "Presencial",
+                    fechaFinalizacion, true, ahora, ahora});
+
+            for (int i = 0; i < temasPorCurso; i++) {
+                temaId++;
+                temas.add(new Object[]{temaId, "T" + temaId, "Tema " + i + " del curso C" + cursoId, cursoId, ahora, ahora});
+                if (temas.size() == BATCH) {
+                    insertCursos(cursos); // Los cursos deben existir antes que sus temas.
+                    insertTemas(temas);
+                }
+            }
+
+            if (cursos.size() == BATCH) {
+                insertCursos(cursos);
+            }
+        }
+        insertCursos(cursos);
+        insertTemas(temas);
+
+        restartSequence("curso_seq", cantidadCursos);
+        restartSequence("tema_seq", temaId);
+
+        log.info("Dataset generado: {} cursos y {} temas en {} ms",
+                cantidadCursos, temaId, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+
+    private void insertCursos(List<Object[]> cursos) {
+        if (!cursos.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO curso (id, nombre, modalidad, fecha_finalizacion, habilitado, " +
+                    "fecha_creacion, fecha_ultima_modificacion) VALUES (?, ?, ?, ?, ?, ?, ?)", cursos);
+            cursos.clear();
+        }
+    }
+
+
+    private void insertTemas(List<Object[]> temas) {
+        if (!temas.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO tema (id, nombre, descripcion, curso_id, " +
+                    "fecha_creacion, fecha_ultima_modificacion) VALUES (?, ?, ?, ?, ?, ?)", temas);
+            temas.clear();
+        }
+    }
+
+
+    private void restartSequence(String secuencia, long ultimoId) {
+        // Con el optimizador pooled, el valor de la secuencia es el límite superior del bloque asignado.
+        jdbcTemplate.execute("ALTER SEQUENCE " + secuencia + " RESTART WITH " + (ultimoId + ALLOCATION_SIZE + 1));
+    }
+}
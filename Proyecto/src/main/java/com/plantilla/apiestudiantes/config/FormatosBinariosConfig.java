@@ -0,0 +1,64 @@
+package com.plantilla.apiestudiantes.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registra los formatos binarios CBOR ({@code application/cbor}) y Smile ({@code application/x-jackson-smile})
+ * para las respuestas y los cuerpos de las solicitudes, según los encabezados {@code Accept} y {@code Content-Type}.
+
+ * Los convertidores se agregan al final de la lista, por lo que JSON sigue siendo el formato por defecto
+ * (por ejemplo con un {@code Accept} comodín o sin {@code Accept}). Usan la misma configuración
+ * {@code spring.jackson.*} que el {@code ObjectMapper} de JSON.
+
+ * Como el formato de cualquier respuesta depende del {@code Accept}, todas incluyen {@code Vary: Accept}: así una
+ * cache compartida no devuelve a un cliente JSON la respuesta CBOR guardada para otro.
+ */
+@Configuration
+public class FormatosBinariosConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring MVC ya registra estos convertidores al encontrar las dependencias, pero con un ObjectMapper
+        // sin la configuración de Spring Boot: se reemplazan.
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    }
+
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Se agrega antes de ejecutar el controlador para que también lo incluyan los 304 y las respuestas de error.
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        });
+    }
+}
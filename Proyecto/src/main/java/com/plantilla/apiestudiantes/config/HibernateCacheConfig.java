@@ -0,0 +1,71 @@
+package com.plantilla.apiestudiantes.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Configura la cache de segundo nivel de Hibernate sobre JCache, usando Caffeine como proveedor local.
+
+ * Las regiones se crean de antemano con el tamaño máximo y la expiración definidos en
+ * {@link HibernateCacheProperties}, y el {@link CacheManager} resultante se entrega a Hibernate.
+
+ * El {@link CacheManager} es propio del contexto (con su propia URI) y no el por defecto del proveedor, que es único
+ * en la JVM: así cerrarlo al detener el contexto no cierra las caches de otros contextos ni de otras bibliotecas.
+ */
+@Configuration
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+public class HibernateCacheConfig {
+
+    public static final String CURSO_REGION = "curso";
+    public static final String TEMA_REGION = "tema";
+    public static final String CURSO_TEMAS_REGION = "curso-temas";
+
+    // Nombres por defecto que usa Hibernate para la cache de consultas.
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private static final List<String> REGIONS = List.of(
+            CURSO_REGION, TEMA_REGION, CURSO_TEMAS_REGION, QUERY_RESULTS_REGION, UPDATE_TIMESTAMPS_REGION);
+
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-cache-" + UUID.randomUUID()), HibernateCacheConfig.class.getClassLoader());
+
+        for (String region : REGIONS) {
+            cacheManager.createCache(region, buildConfiguration(properties.region(region)));
+        }
+        return cacheManager;
+    }
+
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+
+    private CaffeineConfiguration<Object, Object> buildConfiguration(HibernateCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+        configuration.setStoreByValue(false); // Hibernate ya guarda copias desensambladas de las entidades.
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
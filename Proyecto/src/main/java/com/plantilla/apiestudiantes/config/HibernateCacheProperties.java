@@ -0,0 +1,40 @@
+package com.plantilla.apiestudiantes.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuración de las regiones de la cache de segundo nivel de Hibernate.
+
+ * Cada región se configura con {@code app.cache.hibernate.regions.<region>.*}; las regiones
+ * que no se configuran usan los valores por defecto de {@link Region}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache.hibernate")
+public class HibernateCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+
+    public Region region(String name) {
+        return regions.getOrDefault(name, new Region());
+    }
+
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        // Cantidad máxima de entradas de la región.
+        private long maximumSize = 1000;
+
+        // Tiempo de vida de cada entrada desde que se escribe.
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,82 @@
+package com.plantilla.apiestudiantes.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Locale;
+
+/**
+ * Ajusta al iniciar las secuencias de ids de {@code curso} y {@code tema} para que no generen ids ya usados.
+
+ * En MySQL Hibernate emula las secuencias con las tablas {@code curso_seq} y {@code tema_seq}, y
+ * {@code ddl-auto=update} las crea empezando en 1 aunque las tablas ya tengan filas (por ejemplo, en una base que
+ * usaba IDENTITY). Se ejecuta después de crear la {@code EntityManagerFactory} (que actualiza el esquema) y antes de
+ * atender solicitudes, y solo aumenta {@code next_val}: si ya es mayor no lo modifica.
+
+ * Con secuencias nativas (perfil {@code h2}) el esquema se crea en cada arranque y {@link DatasetSeeder} reinicia las
+ * secuencias después de insertar el dataset.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    // Mismo valor que allocationSize de las secuencias de Curso y Tema.
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+
+    @PostConstruct
+    public void initialize() {
+        ajustarSecuencia("curso", "curso_seq");
+        ajustarSecuencia("tema", "tema_seq");
+    }
+
+
+
+    // Métodos privados
+
+    private void ajustarSecuencia(String tabla, String secuencia) {
+        if (!existeTabla(secuencia)) {
+            return;
+        }
+
+        Long ultimoId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + tabla, Long.class);
+        if (ultimoId == null) {
+            return;
+        }
+
+        // Con el optimizador pooled, el valor de la secuencia es el límite superior del bloque asignado.
+        long siguiente = ultimoId + ALLOCATION_SIZE + 1;
+        int filas = jdbcTemplate.update("UPDATE " + secuencia + " SET next_val = ? WHERE next_val < ?", siguiente, siguiente);
+        if (filas > 0) {
+            log.info("Secuencia {} ajustada a {} (id máximo de {}: {})", secuencia, siguiente, tabla, ultimoId);
+        }
+    }
+
+
+    // Indica si la secuencia es una tabla (emulada por Hibernate) y no una secuencia nativa.
+    private boolean existeTabla(String nombre) {
+        Boolean existe = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String variante : new String[]{nombre, nombre.toUpperCase(Locale.ROOT)}) {
+                try (ResultSet tablas = metaData.getTables(connection.getCatalog(), null, variante, new String[]{"TABLE"})) {
+                    if (tablas.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(existe);
+    }
+}
@@ -0,0 +1,63 @@
+package com.plantilla.apiestudiantes.config;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Indica que las lecturas del hilo actual deben ir a la primaria aunque la transacción sea de solo lectura.
+
+ * Lo activa {@link LecturaPrimariaFilter} durante las solicitudes de un cliente que escribió hace poco,
+ * para que lea sus propias escrituras aunque las réplicas estén atrasadas. También se activa con {@link #ejecutar}
+ * para las lecturas cuyo resultado se guarda en caches compartidas, que no deben completarse con datos atrasados.
+ */
+public final class LecturaPrimaria {
+
+    private static final ThreadLocal<Boolean> ACTIVA = new ThreadLocal<>();
+
+    private LecturaPrimaria() {
+    }
+
+
+    public static boolean isActiva() {
+        return Boolean.TRUE.equals(ACTIVA.get());
+    }
+
+
+    public static void activar() {
+        ACTIVA.set(Boolean.TRUE);
+    }
+
+
+    public static void limpiar() {
+        ACTIVA.remove();
+    }
+
+
+    /**
+     * Indica si las lecturas del hilo actual van a la primaria: fuera de una transacción de solo lectura o con
+     * la lectura en la primaria activa. Sin réplicas configuradas, todas van a la primaria.
+     */
+    public static boolean requierePrimaria() {
+        return isActiva() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+
+    /**
+     * Ejecuta {@code lectura} con las lecturas dirigidas a la primaria y luego restablece el estado anterior.
+
+     * Solo cambia el destino de las conexiones que se obtienen durante la ejecución: dentro de una transacción de
+     * solo lectura, {@code lectura} debe ejecutar su primera sentencia.
+     */
+    public static <T> T ejecutar(Supplier<T> lectura) {
+        boolean activa = isActiva();
+        activar();
+        try {
+            return lectura.get();
+        } finally {
+            if (!activa) {
+                limpiar();
+            }
+        }
+    }
+}
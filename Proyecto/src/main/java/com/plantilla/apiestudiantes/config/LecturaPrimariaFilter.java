@@ -0,0 +1,83 @@
+package com.plantilla.apiestudiantes.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Garantiza que un cliente lea sus propias escrituras cuando las lecturas van a las réplicas.
+
+ * Cada solicitud que puede escribir (todo lo que no es GET, HEAD u OPTIONS) recibe una cookie con el
+ * instante hasta el cual las lecturas de ese cliente deben ir a la primaria. Mientras la cookie
+ * está vigente, {@link LecturaPrimaria} se activa durante la solicitud.
+ */
+public class LecturaPrimariaFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "lectura-primaria-hasta";
+
+    private final long ventanaMillis;
+
+
+    public LecturaPrimariaFilter(ReplicaDataSourceProperties properties) {
+        this.ventanaMillis = properties.getReadYourWritesWindow().toMillis();
+    }
+
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        long ahora = System.currentTimeMillis();
+
+        if (esEscritura(request)) {
+            // Se agrega antes de procesar la solicitud porque después la respuesta puede estar confirmada.
+            Cookie cookie = new Cookie(COOKIE, Long.toString(ahora + ventanaMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (ventanaMillis + 999) / 1000));
+            response.addCookie(cookie);
+        }
+
+        if (vigente(request, ahora)) {
+            LecturaPrimaria.activar();
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            LecturaPrimaria.limpiar();
+        }
+    }
+
+
+
+    // Métodos privados
+
+    private static boolean esEscritura(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method) && !HttpMethod.OPTIONS.matches(method);
+    }
+
+
+    private static boolean vigente(HttpServletRequest request, long ahora) {
+        if (request.getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > ahora;
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
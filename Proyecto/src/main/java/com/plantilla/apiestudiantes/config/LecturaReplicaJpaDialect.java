@@ -0,0 +1,55 @@
+package com.plantilla.apiestudiantes.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * Dialecto JPA que impide que las transacciones que leen de las réplicas completen la cache de segundo nivel
+ * y la de consultas de Hibernate.
+
+ * Esas caches son compartidas y se invalidan al confirmar cada escritura: una entidad leída después de una réplica
+ * atrasada quedaría en la cache hasta expirar, para todos los clientes. Las sesiones de las transacciones de solo
+ * lectura que no van a la primaria usan {@link CacheMode#GET}: leen de la cache pero no agregan entradas. Al terminar
+ * la transacción se restablece el modo anterior, porque con open-in-view la sesión sigue en uso en la solicitud.
+ */
+public class LecturaReplicaJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || LecturaPrimaria.isActiva()) {
+            return transactionData;
+        }
+
+        Session session = getSession(entityManager);
+        LecturaReplica lectura = new LecturaReplica(transactionData, session, session.getCacheMode());
+        session.setCacheMode(CacheMode.GET);
+        return lectura;
+    }
+
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof LecturaReplica lectura) {
+            lectura.session().setCacheMode(lectura.cacheModeAnterior());
+            super.cleanupTransaction(lectura.transactionData());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+
+
+    // Datos de la transacción de HibernateJpaDialect más el modo de cache a restablecer.
+    private record LecturaReplica(Object transactionData, Session session, CacheMode cacheModeAnterior) {
+    }
+}
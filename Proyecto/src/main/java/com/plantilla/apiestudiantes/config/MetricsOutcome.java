@@ -0,0 +1,50 @@
+package com.plantilla.apiestudiantes.config;
+
+import com.plantilla.apiestudiantes.exception.CursoInvalidException;
+import com.plantilla.apiestudiantes.exception.CursoNotFoundException;
+import com.plantilla.apiestudiantes.exception.DataBaseException;
+import com.plantilla.apiestudiantes.exception.TemaException;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Clasifica el resultado de una operación para el tag {@code outcome} de las métricas,
+ * con las mismas categorías que {@link com.plantilla.apiestudiantes.exception.GlobalExceptionHandler}.
+ */
+final class MetricsOutcome {
+
+    static final String TAG = "outcome";
+
+    static final String SUCCESS = "success";
+    static final String NOT_FOUND = "not-found";
+    static final String INVALID = "invalid";
+    static final String CONFLICT = "conflict";
+    static final String DB_ERROR = "db-error";
+    static final String ERROR = "error";
+
+    private MetricsOutcome() {
+    }
+
+
+    static String of(Throwable error) {
+        if (error == null) {
+            return SUCCESS;
+        }
+        if (error instanceof CursoNotFoundException) {
+            return NOT_FOUND;
+        }
+        if (error instanceof CursoInvalidException || error instanceof TemaException
+                || error instanceof ConstraintViolationException) {
+            return INVALID;
+        }
+        // Antes que DataAccessException, de la que es subclase.
+        if (error instanceof OptimisticLockingFailureException) {
+            return CONFLICT;
+        }
+        if (error instanceof DataBaseException || error instanceof DataAccessException) {
+            return DB_ERROR;
+        }
+        return ERROR;
+    }
+}
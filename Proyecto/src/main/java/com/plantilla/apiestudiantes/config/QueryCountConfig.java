@@ -0,0 +1,34 @@
+package com.plantilla.apiestudiantes.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Detector de consultas por solicitud, que reemplaza a {@code spring.jpa.show-sql}.
+
+ * En lugar de imprimir cada sentencia, cuenta las sentencias de cada solicitud con {@link QueryCountInspector}
+ * y registra solo las solicitudes que superan los límites de {@link QueryCountProperties}.
+ * Se deshabilita con {@code app.query-count.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.query-count.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(QueryCountProperties.class)
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        QueryCountInspector inspector = new QueryCountInspector();
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(QueryCountProperties properties) {
+        return new FilterRegistrationBean<>(new QueryCountFilter(properties));
+    }
+}
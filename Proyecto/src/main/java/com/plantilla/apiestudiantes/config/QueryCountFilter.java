@@ -0,0 +1,55 @@
+package com.plantilla.apiestudiantes.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Cuenta las sentencias SQL de cada solicitud HTTP y registra solo las solicitudes sospechosas:
+ * las que superan {@code app.query-count.max-statements} (posible N+1) o {@code app.query-count.slow-request}.
+
+ * El log incluye las sentencias ejecutadas y cuántas veces se ejecutó cada una.
+ */
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    // Sentencias distintas que se incluyen en el log.
+    private static final int MAX_SENTENCIAS_LOG = 10;
+
+    private final int maxStatements;
+    private final long slowRequestNanos;
+
+
+    public QueryCountFilter(QueryCountProperties properties) {
+        this.maxStatements = properties.getMaxStatements();
+        this.slowRequestNanos = properties.getSlowRequest().toNanos();
+    }
+
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        QueryCountInspector.Conteo conteo = QueryCountInspector.iniciar();
+        long inicio = System.nanoTime();
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryCountInspector.finalizar();
+            long duracion = System.nanoTime() - inicio;
+
+            if (conteo.getTotal() > maxStatements || duracion > slowRequestNanos) {
+                log.warn("{} {} - status {} - {} sentencias SQL en {} ms (límites: {} sentencias, {} ms):{}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        conteo.getTotal(), duracion / 1_000_000, maxStatements, slowRequestNanos / 1_000_000,
+                        conteo.resumen(MAX_SENTENCIAS_LOG));
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.plantilla.apiestudiantes.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Agrega el encabezado {@code X-Query-Count} con las sentencias SQL ejecutadas hasta escribir la respuesta.
+
+ * Se aplica justo antes de serializar el cuerpo, cuando los encabezados todavía se pueden modificar.
+ * Se habilita con {@code app.query-count.header=true}.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.query-count.header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+
+        QueryCountInspector.Conteo conteo = QueryCountInspector.actual();
+        if (conteo != null) {
+            response.getHeaders().set(HEADER, Integer.toString(conteo.getTotal()));
+        }
+        return body;
+    }
+}
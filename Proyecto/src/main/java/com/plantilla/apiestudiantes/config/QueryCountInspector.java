@@ -0,0 +1,86 @@
+package com.plantilla.apiestudiantes.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link StatementInspector} de Hibernate que cuenta las sentencias SQL de la solicitud en curso.
+
+ * Solo cuenta mientras hay un {@link Conteo} activo en el hilo actual, lo que hace {@link QueryCountFilter}
+ * durante cada solicitud HTTP. No modifica las sentencias.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Conteo> ACTUAL = new ThreadLocal<>();
+
+
+    @Override
+    public String inspect(String sql) {
+        Conteo conteo = ACTUAL.get();
+        if (conteo != null) {
+            conteo.registrar(sql);
+        }
+        return sql;
+    }
+
+
+    static Conteo iniciar() {
+        Conteo conteo = new Conteo();
+        ACTUAL.set(conteo);
+        return conteo;
+    }
+
+
+    static void finalizar() {
+        ACTUAL.remove();
+    }
+
+
+    // Conteo de la solicitud en curso, o null fuera de una solicitud.
+    static Conteo actual() {
+        return ACTUAL.get();
+    }
+
+
+
+    /**
+     * Sentencias ejecutadas durante una solicitud, agrupadas por SQL (los parámetros no forman
+     * parte del SQL preparado, por lo que una sentencia repetida con distintos valores se agrupa).
+     */
+    static final class Conteo {
+
+        // Límite de sentencias distintas que se conservan para el log.
+        private static final int MAX_DISTINTAS = 50;
+
+        private final Map<String, Integer> sentencias = new LinkedHashMap<>();
+        private int total;
+
+
+        void registrar(String sql) {
+            total++;
+            if (sentencias.containsKey(sql) || sentencias.size() < MAX_DISTINTAS) {
+                sentencias.merge(sql, 1, Integer::sum);
+            }
+        }
+
+
+        int getTotal() {
+            return total;
+        }
+
+
+        // Una línea por sentencia distinta, con la cantidad de ejecuciones, empezando por la más repetida.
+        String resumen(int maxSentencias) {
+            StringBuilder resumen = new StringBuilder();
+            sentencias.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(maxSentencias)
+                    .forEach(sentencia -> resumen.append("\n  ")
+                            .append(sentencia.getValue()).append("x ")
+                            .append(sentencia.getKey()));
+            return resumen.toString();
+        }
+    }
+}
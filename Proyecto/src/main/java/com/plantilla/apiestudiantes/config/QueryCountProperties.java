@@ -0,0 +1,27 @@
+package com.plantilla.apiestudiantes.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuración del detector de consultas por solicitud ({@link QueryCountFilter}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.query-count")
+public class QueryCountProperties {
+
+    private boolean enabled = true;
+
+    // Una solicitud con más sentencias se registra como posible N+1.
+    private int maxStatements = 20;
+
+    // Una solicitud más lenta se registra aunque no supere maxStatements.
+    private Duration slowRequest = Duration.ofSeconds(1);
+
+    // Agrega el encabezado X-Query-Count a las respuestas (para depuración y tests).
+    private boolean header;
+}
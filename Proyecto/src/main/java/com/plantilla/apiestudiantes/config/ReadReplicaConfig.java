@@ -0,0 +1,100 @@
+package com.plantilla.apiestudiantes.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Separa lecturas y escrituras entre la base primaria y una o más réplicas de lectura.
+
+ * Se habilita con {@code app.datasource.replica.enabled=true}. La primaria se configura con
+ * {@code spring.datasource.*} y las réplicas con {@code app.datasource.replica.nodes[n].*}. Las transacciones
+ * {@code @Transactional(readOnly = true)} van a las réplicas y el resto a la primaria
+ * (ver {@link ReadWriteRoutingDataSource} y {@link LecturaPrimariaFilter}). Lo que se lee de las réplicas no se
+ * guarda en la cache de segundo nivel ni en la de consultas ({@link LecturaReplicaJpaDialect}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                       DataSourceProperties dataSourceProperties,
+                                                       ReplicaDataSourceProperties replicaProperties,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (ReplicaDataSourceProperties.Node node : replicaProperties.getNodes()) {
+            // Cada réplica usa la misma configuración de pool que la primaria.
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + (replicas.size() + 1));
+            config.setJdbcUrl(node.getUrl());
+            config.setUsername(node.getUsername() != null ? node.getUsername() : dataSourceProperties.determineUsername());
+            config.setPassword(node.getPassword() != null ? node.getPassword() : dataSourceProperties.determinePassword());
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null && config.getMetricsTrackerFactory() == null) {
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+    }
+
+
+    // DataSource que usan JPA y JdbcTemplate.
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+
+    // Se registra antes de inicializar la fábrica de EntityManager, que solo toma el dialecto del JpaVendorAdapter
+    // si no tiene uno; JpaTransactionManager lo obtiene de la fábrica.
+    @Bean
+    public static BeanPostProcessor lecturaReplicaJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new LecturaReplicaJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+
+    @Bean
+    public FilterRegistrationBean<LecturaPrimariaFilter> lecturaPrimariaFilter(ReplicaDataSourceProperties properties) {
+        return new FilterRegistrationBean<>(new LecturaPrimariaFilter(properties));
+    }
+}
@@ -0,0 +1,59 @@
+package com.plantilla.apiestudiantes.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a las réplicas (en round robin)
+ * y todo lo demás a la primaria.
+
+ * La decisión se toma al obtener la conexión, por lo que debe usarse detrás de un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: así la conexión real se pide
+ * recién en la primera sentencia, cuando la transacción ya está marcada como de solo lectura.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final AtomicInteger siguienteReplica = new AtomicInteger();
+
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.replicas = List.copyOf(replicas);
+
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            destinos.put(i, replicas.get(i));
+        }
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || LecturaPrimaria.requierePrimaria()) {
+            return PRIMARY;
+        }
+        return Math.floorMod(siguienteReplica.getAndIncrement(), replicas.size());
+    }
+
+
+    // Cierra los pools de las réplicas; la primaria es un bean y la cierra Spring.
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
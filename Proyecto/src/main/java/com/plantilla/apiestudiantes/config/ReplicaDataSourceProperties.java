@@ -0,0 +1,41 @@
+package com.plantilla.apiestudiantes.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de las réplicas de lectura.
+
+ * Las réplicas usan la misma configuración de pool que {@code spring.datasource.hikari.*};
+ * cada una define su URL y, si difieren de la primaria, sus credenciales.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled;
+
+    // Tiempo durante el cual las lecturas de un cliente van a la primaria después de que escribe.
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private List<Node> nodes = new ArrayList<>();
+
+
+    @Getter
+    @Setter
+    public static class Node {
+
+        private String url;
+
+        // Si no se indican se usan las credenciales de spring.datasource.
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,21 @@
+package com.plantilla.apiestudiantes.config;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Agrega el tag {@code outcome} (ver {@link MetricsOutcome}) al timer {@code spring.data.repository.invocations}
+ * que Spring Boot registra para cada consulta de los repositorios.
+ */
+@Component
+public class RepositoryOutcomeTagsProvider extends DefaultRepositoryTagsProvider {
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        Throwable error = invocation.getResult() != null ? invocation.getResult().getError() : null;
+        return Tags.of(super.repositoryTags(invocation)).and(MetricsOutcome.TAG, MetricsOutcome.of(error));
+    }
+}
@@ -0,0 +1,12 @@
+package com.plantilla.apiestudiantes.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas periódicas ({@code @Scheduled}), como el refresco del total de cursos.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,46 @@
+package com.plantilla.apiestudiantes.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra el timer {@code app.service} para cada método de las interfaces {@code I*Service},
+ * con los tags {@code service}, {@code method} y {@code outcome} (ver {@link MetricsOutcome}).
+
+ * Los percentiles e histogramas se configuran con {@code management.metrics.distribution.*.app.service}.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String METRIC = "app.service";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+
+    @Around("execution(* com.plantilla.apiestudiantes.service.I*Service.*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable error = null;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            error = ex;
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .description("Duración de los métodos de los servicios")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag(MetricsOutcome.TAG, MetricsOutcome.of(error))
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.plantilla.apiestudiantes.config.json;
+
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.plantilla.apiestudiantes.dto.CursoCampo;
+
+import java.util.Set;
+
+/**
+ * Filtro de Jackson con los campos de {@code CursoDto} solicitados con {@code fields=} en una solicitud.
+
+ * Se aplica por escritura ({@code ObjectWriter.with(FilterProvider)} o {@code MappingJacksonValue.setFilters}), no
+ * en la clase: sin filtro, {@link CursoDtoSerializer} escribe todos los campos, incluidos los que son {@code null}.
+ * Con filtro escribe solo los solicitados, también aunque sean {@code null}.
+ */
+public final class CursoCamposFilter extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "cursoCampos";
+
+    // Atributo de la solicitud con los campos pedidos; lo lee CursoCamposResponseBodyAdvice.
+    public static final String ATRIBUTO = CursoCamposFilter.class.getName() + ".campos";
+
+    private final Set<CursoCampo> campos;
+
+
+    private CursoCamposFilter(Set<CursoCampo> campos) {
+        this.campos = Set.copyOf(campos);
+    }
+
+
+    /**
+     * @return Un {@link FilterProvider} que escribe solo los campos indicados de cada curso.
+     */
+    public static FilterProvider de(Set<CursoCampo> campos) {
+        return new SimpleFilterProvider().addFilter(ID, new CursoCamposFilter(campos));
+    }
+
+
+    /**
+     * @return Los campos a escribir según el filtro de la escritura en curso, o todos si no tiene.
+     */
+    static Set<CursoCampo> campos(SerializerProvider provider) {
+        FilterProvider filtros = provider.getFilterProvider();
+        PropertyFilter filtro = filtros == null ? null : filtros.findPropertyFilter(ID, null);
+        return filtro instanceof CursoCamposFilter cursoCampos ? cursoCampos.campos : CursoCampo.TODOS;
+    }
+
+
+    @Override
+    protected boolean include(PropertyWriter writer) {
+        return CursoCampo.of(writer.getName()).map(campos::contains).orElse(true);
+    }
+}
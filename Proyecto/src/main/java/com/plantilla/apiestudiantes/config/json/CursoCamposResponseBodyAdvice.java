@@ -0,0 +1,34 @@
+package com.plantilla.apiestudiantes.config.json;
+
+import com.plantilla.apiestudiantes.dto.CursoCampo;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Aplica {@link CursoCamposFilter} a la respuesta cuando el controlador dejó en la solicitud los campos pedidos con
+ * {@code fields=}. Se aplica a JSON, CBOR y Smile, que se escriben con convertidores de Jackson.
+ */
+@ControllerAdvice
+public class CursoCamposResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(CursoCamposFilter.ATRIBUTO) instanceof Set<?> campos) {
+            @SuppressWarnings("unchecked")
+            Set<CursoCampo> cursoCampos = (Set<CursoCampo>) campos;
+            bodyContainer.setFilters(CursoCamposFilter.de(cursoCampos));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.plantilla.apiestudiantes.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.plantilla.apiestudiantes.dto.CursoDto;
+
+import java.io.IOException;
+
+/**
+ * Serializa {@link CursoDto} sin introspección del record: cada campo se escribe con su nombre ya codificado.
+ * Respeta el {@link CursoCamposFilter} de la escritura, si lo hay.
+ */
+public class CursoDtoSerializer extends StdSerializer<CursoDto> {
+
+    public CursoDtoSerializer() {
+        super(CursoDto.class);
+    }
+
+
+    @Override
+    public void serialize(CursoDto curso, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        CursoJsonWriter.write(gen, provider, CursoCamposFilter.campos(provider), curso.id(), curso.nombre(), curso.modalidad(),
+                curso.fecha_finalizacion(), curso.listaTemasId(), curso.version());
+    }
+}
@@ -0,0 +1,25 @@
+package com.plantilla.apiestudiantes.config.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializadores escritos a mano para las respuestas de cursos, las de mayor volumen de la API:
+ * {@code Response}, {@code CursoDto}, {@code PageDto} y {@code CursoSliceDto}.
+
+ * Escriben directamente en el {@code JsonGenerator} con los nombres de los campos ya codificados, sin la
+ * introspección ni los accesos por reflexión del serializador de beans, y reducen la memoria asignada por
+ * respuesta (ver {@code ResponseSerializationBenchmark}). Spring Boot registra el módulo en el
+ * {@code ObjectMapper} de JSON y, a través del mismo builder, en los de CBOR y Smile.
+ */
+@Component
+public class CursoJsonModule extends SimpleModule {
+
+    public CursoJsonModule() {
+        super("CursoJsonModule");
+        addSerializer(new ResponseSerializer());
+        addSerializer(new CursoDtoSerializer());
+        addSerializer(new PageDtoSerializer());
+        addSerializer(new CursoSliceSerializer());
+    }
+}
@@ -0,0 +1,87 @@
+package com.plantilla.apiestudiantes.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.plantilla.apiestudiantes.dto.CursoCampo;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Escribe los campos de un curso directamente en el {@link JsonGenerator}, con los nombres ya codificados.
+ * Lo usan tanto {@link CursoDtoSerializer} como {@link CursoSliceSerializer}, que escribe desde las entidades
+ * sin construir los {@code CursoDto}, por lo que ambos producen el mismo JSON.
+ */
+final class CursoJsonWriter {
+
+    static final SerializedString ID = new SerializedString("id");
+    static final SerializedString NOMBRE = new SerializedString("nombre");
+    static final SerializedString MODALIDAD = new SerializedString("modalidad");
+    static final SerializedString FECHA_FINALIZACION = new SerializedString("fecha_finalizacion");
+    static final SerializedString LISTA_TEMAS_ID = new SerializedString("listaTemasId");
+    static final SerializedString VERSION = new SerializedString("version");
+
+
+    private CursoJsonWriter() {
+    }
+
+
+    /**
+     * Escribe el objeto del curso con los campos indicados, en {@code null} si no tienen valor. Los campos no
+     * indicados (no solicitados con {@code fields=}, ver {@link CursoCamposFilter}) se omiten.
+     */
+    static void write(JsonGenerator gen, SerializerProvider provider, Set<CursoCampo> campos, Long id, String nombre,
+                      String modalidad, Date fechaFinalizacion, List<Long> temasId, Long version) throws IOException {
+
+        gen.writeStartObject();
+        if (campos.contains(CursoCampo.ID)) {
+            gen.writeFieldName(ID);
+            writeNumber(gen, id);
+        }
+        if (campos.contains(CursoCampo.NOMBRE)) {
+            gen.writeFieldName(NOMBRE);
+            gen.writeString(nombre);
+        }
+        if (campos.contains(CursoCampo.MODALIDAD)) {
+            gen.writeFieldName(MODALIDAD);
+            gen.writeString(modalidad);
+        }
+        if (campos.contains(CursoCampo.FECHA_FINALIZACION)) {
+            gen.writeFieldName(FECHA_FINALIZACION);
+            // Se delega según la clase real: Hibernate puede devolver java.sql.Date, que Jackson escribe distinto.
+            provider.defaultSerializeValue(fechaFinalizacion, gen);
+        }
+        if (campos.contains(CursoCampo.LISTA_TEMAS_ID)) {
+            gen.writeFieldName(LISTA_TEMAS_ID);
+            if (temasId == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(temasId, temasId.size());
+                for (int i = 0; i < temasId.size(); i++) {
+                    writeNumber(gen, temasId.get(i));
+                }
+                gen.writeEndArray();
+            }
+        }
+        if (campos.contains(CursoCampo.VERSION)) {
+            gen.writeFieldName(VERSION);
+            writeNumber(gen, version);
+        }
+        gen.writeEndObject();
+    }
+
+
+
+    // Métodos privados
+
+    private static void writeNumber(JsonGenerator gen, Long valor) throws IOException {
+        if (valor == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(valor);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.plantilla.apiestudiantes.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.plantilla.apiestudiantes.dto.CursoCampo;
+import com.plantilla.apiestudiantes.dto.CursoSliceDto;
+import com.plantilla.apiestudiantes.model.Curso;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serializa {@link CursoSliceDto} escribiendo cada curso directamente desde la entidad devuelta por la consulta,
+ * con el mismo JSON que {@link CursoDtoSerializer} y sin construir una lista intermedia de {@code CursoDto}.
+ */
+public class CursoSliceSerializer extends StdSerializer<CursoSliceDto> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString HAS_NEXT = new SerializedString("hasNext");
+    private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+
+
+    public CursoSliceSerializer() {
+        super(CursoSliceDto.class);
+    }
+
+
+    @Override
+    public void serialize(CursoSliceDto slice, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(slice);
+
+        gen.writeFieldName(CONTENT);
+        List<Curso> cursos = slice.content();
+        Set<CursoCampo> campos = CursoCamposFilter.campos(provider);
+        gen.writeStartArray(cursos, cursos.size());
+        for (int i = 0; i < cursos.size(); i++) {
+            Curso curso = cursos.get(i);
+            CursoJsonWriter.write(gen, provider, campos, curso.getId(), curso.getNombre(), curso.getModalidad(),
+                    curso.getFecha_finalizacion(), slice.temasPorCurso().getOrDefault(curso.getId(), List.of()),
+                    curso.getVersion());
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(slice.size());
+        gen.writeFieldName(HAS_NEXT);
+        gen.writeBoolean(slice.hasNext());
+        gen.writeFieldName(NEXT_CURSOR);
+        if (slice.nextCursor() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(slice.nextCursor());
+        }
+
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,140 @@
+package com.plantilla.apiestudiantes.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.plantilla.apiestudiantes.dto.PageDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Serializa {@link PageDto} con los mismos campos que Jackson obtiene por reflexión de {@code PageImpl}
+ * ({@code content}, {@code pageable}, {@code totalElements}, {@code totalPages}, etc.) más {@code totalExacto},
+ * pero sin introspección y con los nombres de los campos ya codificados.
+ */
+public class PageDtoSerializer extends StdSerializer<PageDto<?>> {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGEABLE = new SerializedString("pageable");
+    private static final SerializedString PAGE_NUMBER = new SerializedString("pageNumber");
+    private static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializedString OFFSET = new SerializedString("offset");
+    private static final SerializedString PAGED = new SerializedString("paged");
+    private static final SerializedString UNPAGED = new SerializedString("unpaged");
+    private static final SerializedString LAST = new SerializedString("last");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString NUMBER = new SerializedString("number");
+    private static final SerializedString SORT = new SerializedString("sort");
+    private static final SerializedString EMPTY = new SerializedString("empty");
+    private static final SerializedString SORTED = new SerializedString("sorted");
+    private static final SerializedString UNSORTED = new SerializedString("unsorted");
+    private static final SerializedString FIRST = new SerializedString("first");
+    private static final SerializedString NUMBER_OF_ELEMENTS = new SerializedString("numberOfElements");
+    private static final SerializedString TOTAL_EXACTO = new SerializedString("totalExacto");
+
+
+    public PageDtoSerializer() {
+        super(PageDto.class, false);
+    }
+
+
+    @Override
+    public void serialize(PageDto<?> page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(page);
+
+        gen.writeFieldName(CONTENT);
+        writeContent(page.getContent(), gen, provider);
+
+        gen.writeFieldName(PAGEABLE);
+        writePageable(page.getPageable(), gen);
+
+        gen.writeFieldName(LAST);
+        gen.writeBoolean(page.isLast());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.getTotalElements());
+        gen.writeFieldName(TOTAL_PAGES);
+        gen.writeNumber(page.getTotalPages());
+        gen.writeFieldName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeFieldName(NUMBER);
+        gen.writeNumber(page.getNumber());
+        gen.writeFieldName(SORT);
+        writeSort(page.getSort(), gen);
+        gen.writeFieldName(FIRST);
+        gen.writeBoolean(page.isFirst());
+        gen.writeFieldName(NUMBER_OF_ELEMENTS);
+        gen.writeNumber(page.getNumberOfElements());
+        gen.writeFieldName(EMPTY);
+        gen.writeBoolean(page.isEmpty());
+        gen.writeFieldName(TOTAL_EXACTO);
+        gen.writeBoolean(page.isTotalExacto());
+
+        gen.writeEndObject();
+    }
+
+
+
+    // Métodos privados
+
+    private void writeContent(List<?> content, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray(content, content.size());
+
+        // Todos los elementos suelen ser del mismo tipo: se busca el serializador una vez por tipo.
+        Class<?> tipoAnterior = null;
+        JsonSerializer<Object> serializador = null;
+        for (int i = 0; i < content.size(); i++) {
+            Object elemento = content.get(i);
+            if (elemento == null) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            if (elemento.getClass() != tipoAnterior) {
+                tipoAnterior = elemento.getClass();
+                serializador = provider.findTypedValueSerializer(tipoAnterior, true, null);
+            }
+            serializador.serialize(elemento, gen, provider);
+        }
+
+        gen.writeEndArray();
+    }
+
+
+    private void writePageable(Pageable pageable, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        // Sin paginación no hay número, tamaño ni desplazamiento (Pageable.unpaged() lanza una excepción).
+        if (pageable.isPaged()) {
+            gen.writeFieldName(PAGE_NUMBER);
+            gen.writeNumber(pageable.getPageNumber());
+            gen.writeFieldName(PAGE_SIZE);
+            gen.writeNumber(pageable.getPageSize());
+            gen.writeFieldName(OFFSET);
+            gen.writeNumber(pageable.getOffset());
+        }
+        gen.writeFieldName(SORT);
+        writeSort(pageable.getSort(), gen);
+        gen.writeFieldName(PAGED);
+        gen.writeBoolean(pageable.isPaged());
+        gen.writeFieldName(UNPAGED);
+        gen.writeBoolean(pageable.isUnpaged());
+        gen.writeEndObject();
+    }
+
+
+    private void writeSort(Sort sort, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(EMPTY);
+        gen.writeBoolean(sort.isEmpty());
+        gen.writeFieldName(SORTED);
+        gen.writeBoolean(sort.isSorted());
+        gen.writeFieldName(UNSORTED);
+        gen.writeBoolean(sort.isUnsorted());
+        gen.writeEndObject();
+    }
+}
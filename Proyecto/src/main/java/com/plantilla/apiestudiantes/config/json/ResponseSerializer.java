@@ -0,0 +1,47 @@
+package com.plantilla.apiestudiantes.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.plantilla.apiestudiantes.dto.Response;
+
+import java.io.IOException;
+
+/**
+ * Serializa el envoltorio {@link Response} con los nombres de sus campos ya codificados.
+ * El contenido de {@code data} se delega en el serializador de su tipo (por ejemplo {@link CursoDtoSerializer}
+ * o {@link PageDtoSerializer}).
+ */
+public class ResponseSerializer extends StdSerializer<Response<?>> {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+
+
+    public ResponseSerializer() {
+        super(Response.class, false);
+    }
+
+
+    @Override
+    public void serialize(Response<?> response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(response.success());
+
+        gen.writeFieldName(MESSAGE);
+        if (response.message() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(response.message());
+        }
+
+        gen.writeFieldName(DATA);
+        provider.defaultSerializeValue(response.data(), gen);
+
+        gen.writeEndObject();
+    }
+}
@@ -1,26 +1,83 @@
 package com.plantilla.apiestudiantes.controller;
 
 
+import com.plantilla.apiestudiantes.config.json.CursoCamposFilter;
+import com.plantilla.apiestudiantes.dto.CursoBusquedaDto;
+import com.plantilla.apiestudiantes.dto.CursoCampo;
 import com.plantilla.apiestudiantes.dto.CursoDto;
+import com.plantilla.apiestudiantes.dto.CursoFiltroDto;
+import com.plantilla.apiestudiantes.dto.CursoImportDto;
+import com.plantilla.apiestudiantes.dto.CursoImportResultDto;
+import com.plantilla.apiestudiantes.dto.CursoJsonDto;
+import com.plantilla.apiestudiantes.dto.CursoSliceDto;
+import com.plantilla.apiestudiantes.dto.FormatoExportacion;
+import com.plantilla.apiestudiantes.dto.HttpValidatorDto;
+import com.plantilla.apiestudiantes.dto.MultiGetResultDto;
 import com.plantilla.apiestudiantes.dto.CursoTemaDto;
 import com.plantilla.apiestudiantes.dto.Response;
 import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.service.ICursoExportService;
+import com.plantilla.apiestudiantes.service.ICursoHttpCacheService;
+import com.plantilla.apiestudiantes.service.ICursoImportService;
+import com.plantilla.apiestudiantes.service.ICursoSearchService;
 import com.plantilla.apiestudiantes.service.ICursoService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
 @RestController
 public class CursoController {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private static final String EXPORT_TIMEOUT_INTERCEPTOR = CursoController.class.getName() + ".exportTimeout";
+
+    // Tiempo máximo de la escritura asíncrona de una exportación; el resto de las solicitudes asíncronas usa
+    // spring.mvc.async.request-timeout.
+    @Value("${app.curso.export.timeout:30m}")
+    private Duration exportTimeout;
+
     @Autowired
     private ICursoService IcursoService;
 
+    @Autowired
+    private ICursoImportService IcursoImportService;
+
+    @Autowired
+    private ICursoExportService IcursoExportService;
+
+    @Autowired
+    private ICursoHttpCacheService IcursoHttpCacheService;
+
+    @Autowired
+    private ICursoSearchService IcursoSearchService;
+
     /**
      * Crea un nuevo curso en el sistema.
      *
@@ -43,26 +100,155 @@ public class CursoController {
     }
 
 
+    /**
+     * Importa un listado de cursos, opcionalmente con sus temas.
+     *
+     * El cuerpo es un arreglo JSON de {@link CursoImportDto} que se lee de forma incremental y se guarda
+     * en lotes. Los cursos inválidos o repetidos no interrumpen la importación: se informan en el resultado.
+     * Un contenido inválido o con más cursos que el máximo se rechaza con 400 antes de guardar el primer lote.
+     *
+     * @param request La solicitud HTTP, de la que se lee el cuerpo sin cargarlo completo en memoria.
+     * @return Un objeto {@link Response} con el resultado de cada curso, en el orden recibido.
+     */
+    @PostMapping (value = "/cursos/importar", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Response<List<CursoImportResultDto>>> importarCursos(HttpServletRequest request) throws IOException {
+
+        Response<List<CursoImportResultDto>> response = IcursoImportService.importarCursos(request.getInputStream());
+        return ResponseEntity.status(HttpStatus.OK).body(response); // Devuelve 200 OK con el resultado de cada curso
+
+    }
+
+
+    /**
+     * Exporta todos los cursos con los nombres de sus temas.
+     *
+     * La respuesta se escribe a medida que se leen los cursos de la base de datos, sin armar
+     * el listado completo en memoria. La escritura asíncrona tiene su propio tiempo máximo,
+     * {@code app.curso.export.timeout}.
+     *
+     * @param formato El formato de salida: {@code ndjson} (un curso JSON por línea) o {@code csv}.
+     * @param request La solicitud HTTP, en cuyo procesamiento asíncrono se fija el tiempo máximo.
+     * @return El contenido de la exportación en el formato solicitado.
+     */
+    @GetMapping ("/cursos/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarCursos(@RequestParam(defaultValue = "ndjson") String formato,
+                                                                HttpServletRequest request) {
+
+        // Se valida antes de comenzar a escribir, para poder responder 400 si el formato no existe.
+        FormatoExportacion formatoExportacion = IcursoExportService.resolveFormato(formato);
+
+        // StreamingResponseBody se ejecuta con el timeout asíncrono global; se reemplaza solo para esta solicitud
+        // justo antes de iniciar el procesamiento asíncrono.
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                        if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+                            asyncWebRequest.setTimeout(exportTimeout.toMillis());
+                        }
+                    }
+                });
+
+        StreamingResponseBody body = out -> IcursoExportService.exportar(formatoExportacion, out);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(formatoExportacion.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=cursos." + formatoExportacion.getExtension())
+                .body(body);
+    }
+
+
     /**
      * Obtiene una lista de cursos desde el servicio de manera paginada.
      *
      * Este método permite recuperar los cursos en forma de una página, donde el número
      * de la página y el tamaño de la página se definen a través de los parámetros
-     * de la solicitud.
+     * de la solicitud. Opcionalmente se filtran por {@code modalidad}, {@code habilitado} y rangos de
+     * fecha de finalización o de creación, y se ordenan por uno de los campos admitidos.
+     *
+     * Responde {@code 304 Not Modified} si el {@code If-None-Match} o {@code If-Modified-Since} de la
+     * solicitud coincide con la versión actual del catálogo.
      *
      * @param page El número de páginas que desea recuperar(comienza de 0)
      * @param size El tamaño de la página, es decir, el número máximo de registros por página.
+     * @param filtro Los filtros opcionales, tomados de los parámetros de la solicitud.
+     * @param sort El orden con el formato {@code campo[,asc|desc]}: {@code id}, {@code nombre},
+     *             {@code fecha_finalizacion} o {@code fechaCreacion}. Por defecto, por id.
+     * @param totalExacto Si se debe contar el total de cursos. Por defecto, sin filtros, se informa un total
+     *                    aproximado en cache y {@code totalExacto} es {@code false} en la respuesta.
+     * @param fields Los campos de cada curso separados por coma (por defecto todos). Sin {@code listaTemasId}
+     *               no se consultan los temas.
      * @return Un objeto {@link Page} que contiene la lista de cursos correspondientes a la página solicitada.
      */
     @GetMapping ("/cursos/listar")
     public ResponseEntity<Response<Page<CursoDto>>> listarCursos(
             @Min(0) @RequestParam(defaultValue = "0") int page,
-            @Min(0) @RequestParam(defaultValue = "10") int size) {
+            @Min(0) @RequestParam(defaultValue = "10") int size,
+            @ModelAttribute CursoFiltroDto filtro,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "false") boolean totalExacto,
+            @RequestParam(required = false) String fields,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+
+        // Se valida antes de consultar, para responder 400 si algún campo no existe.
+        Set<CursoCampo> campos = IcursoService.resolveCampos(fields);
+        request.setAttribute(CursoCamposFilter.ATRIBUTO, campos); // Ver CursoCamposResponseBodyAdvice
+
+        HttpValidatorDto validator = conFormato(IcursoHttpCacheService.getCatalogoValidator(request.getQueryString()),
+                formatoNegociado(webRequest));
+        if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return null; // Devuelve 304 Not Modified con los encabezados ya escritos
+        }
+
+        Response<Page<CursoDto>>response = IcursoService.getCursos(filtro, page, size, sort, totalExacto, campos);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response); // Devuelve 200 OK
+
+    }
+
 
-        Response<Page<CursoDto>>response = IcursoService.getCursos(page, size);
+
+    /**
+     * Obtiene una lista de cursos utilizando paginación por cursor (keyset).
+     *
+     * A diferencia de {@code /cursos/listar}, no calcula el total de registros y su latencia no
+     * depende de la profundidad de la página. Para obtener la siguiente porción se debe enviar
+     * en {@code after} el valor {@code nextCursor} de la respuesta anterior.
+     *
+     * @param after Cursor opaco de la porción anterior; si se omite, se comienza desde el primer curso.
+     * @param size El número máximo de registros de la porción.
+     * @return Un objeto {@link CursoSliceDto} con los cursos y el cursor de la siguiente porción.
+     */
+    @GetMapping ("/cursos/listar/cursor")
+    public ResponseEntity<Response<CursoSliceDto>> listarCursosCursor(
+            @RequestParam(required = false) String after,
+            @Min(1) @RequestParam(defaultValue = "10") int size) {
+
+        Response<CursoSliceDto> response = IcursoService.getCursos(after, size);
 
         return ResponseEntity.status(HttpStatus.OK).body(response); // Devuelve 200 OK
+    }
+
+
 
+    /**
+     * Busca cursos por su nombre y por el nombre o la descripción de sus temas.
+     *
+     * La búsqueda se resuelve sobre un índice en memoria, sin acceder a la base de datos. Cada palabra
+     * coincide completa o como prefijo, y un curso debe coincidir con todas las palabras.
+     *
+     * @param q El texto de búsqueda.
+     * @param limit La cantidad máxima de cursos.
+     * @return Los cursos ordenados por relevancia, con los ids de los temas que coincidieron.
+     */
+    @GetMapping ("/cursos/buscar")
+    public ResponseEntity<Response<List<CursoBusquedaDto>>> buscarCursos(
+            @RequestParam String q,
+            @Min(1) @Max(100) @RequestParam(defaultValue = "20") int limit) {
+
+        Response<List<CursoBusquedaDto>> response = IcursoSearchService.buscar(q, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(response); // Devuelve 200 OK
     }
 
 
@@ -73,16 +259,74 @@ public class CursoController {
      * Este método permite recuperar un curso determinado, incluyendo su nombre y lista de temas,
      * a partir del ID que se pasa como parámetro en la URL
      *
+     * La respuesta incluye {@code ETag} y {@code Last-Modified}; si la solicitud los envía y el curso no cambió
+     * se responde {@code 304 Not Modified}. El cuerpo se devuelve ya serializado desde la cache de respuestas.
+     *
      * @param id El identificador único del curso que se desea recuperar.
+     * @param fields Los campos a devolver separados por coma (por defecto todos). Sin {@code listaTemasId}
+     *               no se consultan los temas.
      * @return un objeto {@link CursoTemaDto} que contiene Nombre y Lista de Temas
      */
 
     @GetMapping ("/curso/mostrar/{id}")
     @ResponseBody
-    public ResponseEntity<Response<CursoDto>> ObtenerCurso(@PathVariable @NonNull Long id) {
+    public ResponseEntity<?> ObtenerCurso(@PathVariable @NonNull Long id,
+                                          @RequestParam(required = false) String fields,
+                                          WebRequest webRequest) {
+
+        // Se valida antes de consultar, para responder 400 si algún campo no existe.
+        Set<CursoCampo> campos = IcursoService.resolveCampos(fields);
+        webRequest.setAttribute(CursoCamposFilter.ATRIBUTO, campos, RequestAttributes.SCOPE_REQUEST); // Ver CursoCamposResponseBodyAdvice
+
+        // La cache solo guarda JSON: los formatos binarios se serializan con el convertidor que corresponda al Accept.
+        MediaType formato = formatoNegociado(webRequest);
+        if (!MediaType.APPLICATION_JSON.equals(formato)) {
+            HttpValidatorDto validator = conFormato(IcursoHttpCacheService.getCursoValidator(id, campos), formato); // 404 si no existe
+            if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+                return null;
+            }
+            return ResponseEntity.status(HttpStatus.OK).body(IcursoService.getCurso(id, campos));
+        }
+
+        // Solo las respuestas con todos los campos están en la cache.
+        CursoJsonDto json = campos.containsAll(CursoCampo.TODOS)
+                ? IcursoHttpCacheService.getCachedCursoJson(id).orElse(null)
+                : null;
+
+        if (json == null) {
+            HttpValidatorDto validator = IcursoHttpCacheService.getCursoValidator(id, campos); // 404 si no existe
+            if (webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+                return null; // Devuelve 304 Not Modified con los encabezados ya escritos
+            }
+            json = IcursoHttpCacheService.buildCursoJson(id, validator, campos);
+
+        } else if (webRequest.checkNotModified(json.validator().etag(), json.validator().lastModified())) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json.body());
+    }
 
-        Response<CursoDto> response =  IcursoService.getCurso(id);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+
+
+
+    /**
+     * Obtiene varios cursos por sus ids en una sola solicitud.
+     *
+     * Los cursos se devuelven en el orden de {@code ids}; los que no existen se informan con
+     * {@code found = false} sin que falle el resto.
+     *
+     * @param ids Los identificadores de los cursos, separados por coma (máximo 200).
+     * @return Un objeto {@link Response} con un resultado por cada id solicitado.
+     */
+    @GetMapping (value = "/cursos", params = "ids")
+    public ResponseEntity<Response<List<MultiGetResultDto<CursoDto>>>> obtenerCursos(
+            @RequestParam @NotEmpty @Size(max = 200) List<Long> ids) {
+
+        Response<List<MultiGetResultDto<CursoDto>>> response = IcursoService.getCursos(ids);
+        return ResponseEntity.status(HttpStatus.OK).body(response); // Devuelve 200 OK aunque falten cursos
     }
 
 
@@ -91,9 +335,10 @@ public class CursoController {
     @PatchMapping("curso/modificar/{id}")
     public ResponseEntity<Response<CursoDto>> modificarCurso(@PathVariable @NonNull Long id,
                                                                    @RequestParam(name = "modalidad")
-                                                                   @NotBlank( message = "La modalidad no puede estar en blanco") String NuevaModalidad){
+                                                                   @NotBlank( message = "La modalidad no puede estar en blanco") String NuevaModalidad,
+                                                                   @RequestParam(required = false) Long version){
 
-        Response<CursoDto> response= IcursoService.editCurso(id, NuevaModalidad);
+        Response<CursoDto> response= IcursoService.editCurso(id, NuevaModalidad, version);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -110,8 +355,41 @@ public class CursoController {
 
 
 
-}
 
 
 
+    // Métodos privados
+
+    // El primer tipo del Accept que coincide con JSON o con un formato binario decide; un comodín elige JSON.
+    private static MediaType formatoNegociado(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        for (MediaType tipo : MediaType.parseMediaTypes(accept)) {
+            if (tipo.isWildcardType() || tipo.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (tipo.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+            if (tipo.isCompatibleWith(SMILE)) {
+                return SMILE;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
 
+    // Cada formato tiene su propio ETag, para que un If-None-Match de JSON no valide una respuesta CBOR o Smile.
+    // JSON conserva el ETag sin sufijo, el mismo que guarda la cache de respuestas serializadas.
+    private static HttpValidatorDto conFormato(HttpValidatorDto validator, MediaType formato) {
+        if (MediaType.APPLICATION_JSON.equals(formato)) {
+            return validator;
+        }
+        String etag = validator.etag();
+        return new HttpValidatorDto(etag.substring(0, etag.length() - 1) + "-" + formato.getSubtype() + "\"",
+                validator.lastModified());
+    }
+}
@@ -1,11 +1,16 @@
 package com.plantilla.apiestudiantes.controller;
 
+import com.plantilla.apiestudiantes.dto.MultiGetResultDto;
 import com.plantilla.apiestudiantes.dto.Response;
 import com.plantilla.apiestudiantes.dto.TemaDto;
 import com.plantilla.apiestudiantes.exception.TemaException;
 import com.plantilla.apiestudiantes.model.Tema;
 import com.plantilla.apiestudiantes.service.ITemaService;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,15 +32,46 @@ public class TemaController {
 
     }
 
+    /**
+     * Obtiene los temas de manera paginada, opcionalmente filtrados por curso.
+     *
+     * @param cursoId Id del curso cuyos temas se desean recuperar (opcional).
+     * @param page El número de página que desea recuperar (comienza de 0).
+     * @param size El tamaño de la página.
+     * @return Un objeto {@link Page} con los temas de la página solicitada.
+     */
     @GetMapping ("/consultar/temas")
-    public List<Tema> ConsultarTemas() {
-        return ItemaService.findAll();
+    public ResponseEntity<Response<Page<TemaDto>>> ConsultarTemas(
+            @RequestParam(required = false) Long cursoId,
+            @Min(0) @RequestParam(defaultValue = "0") int page,
+            @Min(1) @RequestParam(defaultValue = "20") int size) {
+
+        Response<Page<TemaDto>> response = ItemaService.getTemas(cursoId, page, size);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     @GetMapping ("/consultar/tema/{id}")
-    public Tema consultarTema(@PathVariable long id) {
-       return ItemaService.findById(id);
+    public ResponseEntity<Response<TemaDto>> consultarTema(@PathVariable long id) {
+
+        Response<TemaDto> response = ItemaService.getTema(id);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Obtiene varios temas por sus ids en una sola solicitud.
+     *
+     * Los temas se devuelven en el orden de {@code ids}; los que no existen se informan con
+     * {@code found = false} sin que falle el resto.
+     *
+     * @param ids Los identificadores de los temas, separados por coma (máximo 200).
+     * @return Un objeto {@link Response} con un resultado por cada id solicitado.
+     */
+    @GetMapping (value = "/temas", params = "ids")
+    public ResponseEntity<Response<List<MultiGetResultDto<TemaDto>>>> consultarTemasPorId(
+            @RequestParam @NotEmpty @Size(max = 200) List<Long> ids) {
 
+        Response<List<MultiGetResultDto<TemaDto>>> response = ItemaService.getTemas(ids);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     /*
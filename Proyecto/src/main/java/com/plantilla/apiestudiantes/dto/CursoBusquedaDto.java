@@ -0,0 +1,20 @@
+package com.plantilla.apiestudiantes.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de la búsqueda de cursos.
+ *
+ * @param id      El identificador del curso.
+ * @param nombre  El nombre del curso.
+ * @param score   Relevancia del curso para la búsqueda; los resultados se ordenan de mayor a menor.
+ * @param temasId Ids de los temas del curso cuyo nombre o descripción coincide con la búsqueda.
+ */
+public record CursoBusquedaDto(
+
+        Long id,
+        String nombre,
+        double score,
+        List<Long> temasId
+) {
+}
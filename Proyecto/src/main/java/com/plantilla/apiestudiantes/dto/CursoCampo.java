@@ -0,0 +1,70 @@
+package com.plantilla.apiestudiantes.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Campos de {@link CursoDto} que se pueden solicitar con el parámetro {@code fields}.
+ */
+public enum CursoCampo {
+
+    ID("id"),
+    NOMBRE("nombre"),
+    MODALIDAD("modalidad"),
+    FECHA_FINALIZACION("fecha_finalizacion"),
+    LISTA_TEMAS_ID("listaTemasId"),
+    VERSION("version");
+
+    public static final Set<CursoCampo> TODOS = Collections.unmodifiableSet(EnumSet.allOf(CursoCampo.class));
+
+    private final String nombre;
+
+    CursoCampo(String nombre) {
+        this.nombre = nombre;
+    }
+
+
+    public String getNombre() {
+        return nombre;
+    }
+
+
+    public static Optional<CursoCampo> of(String nombre) {
+        return Arrays.stream(values())
+                .filter(valor -> valor.nombre.equals(nombre))
+                .findFirst();
+    }
+
+
+    /**
+     * Identifica un conjunto de campos con un número, para distinguir las variantes de una misma respuesta (por ejemplo en el ETag).
+     */
+    public static int mascara(Set<CursoCampo> campos) {
+        int mascara = 0;
+        for (CursoCampo campo : campos) {
+            mascara |= 1 << campo.ordinal();
+        }
+        return mascara;
+    }
+
+
+    /**
+     * Devuelve el curso solo con los campos indicados; el resto queda en {@code null}. Para que esos campos además
+     * se omitan de la respuesta, la escritura debe usar {@code CursoCamposFilter} con los mismos campos.
+     */
+    public static CursoDto proyectar(CursoDto curso, Set<CursoCampo> campos) {
+        if (campos.containsAll(TODOS)) {
+            return curso;
+        }
+        return new CursoDto(
+                campos.contains(ID) ? curso.id() : null,
+                campos.contains(NOMBRE) ? curso.nombre() : null,
+                campos.contains(MODALIDAD) ? curso.modalidad() : null,
+                campos.contains(FECHA_FINALIZACION) ? curso.fecha_finalizacion() : null,
+                campos.contains(LISTA_TEMAS_ID) ? curso.listaTemasId() : null,
+                campos.contains(VERSION) ? curso.version() : null);
+    }
+}
@@ -3,9 +3,8 @@ package com.plantilla.apiestudiantes.dto;
 
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Null;
+import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
-import lombok.NonNull;
 
 import java.util.Date;
 import java.util.List;
@@ -13,7 +12,7 @@ import java.util.List;
 @Builder
 public record CursoDto(
 
-        @Null (message = "El id debe ser nulo - DTO")
+        // Obligatorio en la modificación (PUT /curso/modificar), único uso validado del DTO.
         Long id,
 
         @NotBlank(message = "El nombre del curso no puede estar vacío -  DTO.")
@@ -22,12 +21,15 @@ public record CursoDto(
         @NotBlank(message = "La modalidad no puede estar vacía - DTO.")
         String modalidad,
 
-        @NonNull
+        @NotNull(message = "La fecha de finalización no puede estar vacía - DTO.")
         @Future
         Date fecha_finalizacion,
 
-        List<Long>listaTemasId
+        List<Long>listaTemasId,
 
+        // Versión del curso para el control de concurrencia optimista. En la modificación es opcional:
+        // si se envía y no coincide con la versión actual se responde 409 Conflict.
+        Long version
 
 
 ) {
@@ -0,0 +1,22 @@
+package com.plantilla.apiestudiantes.dto;
+
+import java.util.Date;
+
+/**
+ * Proyección de una fila de la exportación: los datos de un curso junto con el nombre de uno de sus temas.
+ * Un curso con varios temas ocupa filas consecutivas; un curso sin temas ocupa una fila con {@code tema} nulo.
+ */
+public interface CursoExportRow {
+
+    Long getId();
+
+    String getNombre();
+
+    String getModalidad();
+
+    Date getFechaFinalizacion();
+
+    Boolean getHabilitado();
+
+    String getTema();
+}
@@ -0,0 +1,42 @@
+package com.plantilla.apiestudiantes.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros opcionales del listado de cursos. Los que son {@code null} no se aplican.
+ *
+ * @param modalidad         Modalidad del curso, sin distinguir mayúsculas.
+ * @param habilitado        Si el curso está habilitado.
+ * @param finalizacionDesde Fecha de finalización mínima (inclusive).
+ * @param finalizacionHasta Fecha de finalización máxima (inclusive).
+ * @param creacionDesde     Fecha de creación mínima (inclusive).
+ * @param creacionHasta     Fecha de creación máxima (inclusive).
+ */
+public record CursoFiltroDto(
+
+        String modalidad,
+
+        Boolean habilitado,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate finalizacionDesde,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate finalizacionHasta,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate creacionDesde,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate creacionHasta
+) {
+
+    public static final CursoFiltroDto SIN_FILTROS = new CursoFiltroDto(null, null, null, null, null, null);
+
+
+    public CursoFiltroDto conModalidad(String modalidad) {
+        return new CursoFiltroDto(modalidad, habilitado, finalizacionDesde, finalizacionHasta, creacionDesde, creacionHasta);
+    }
+}
@@ -0,0 +1,42 @@
+package com.plantilla.apiestudiantes.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Curso recibido en la importación masiva, opcionalmente con sus temas.
+ */
+public record CursoImportDto(
+
+        @NotBlank(message = "El nombre del curso no puede estar vacío -  DTO.")
+        @Size(max = 20, message = "El nombre del curso no puede superar los 20 caracteres - DTO.")
+        String nombre,
+
+        @NotBlank(message = "La modalidad no puede estar vacía - DTO.")
+        String modalidad,
+
+        @NotNull(message = "La fecha de finalización no puede ser nula - DTO.")
+        Date fecha_finalizacion,
+
+        Boolean habilitado, // Si no se informa, el curso se importa habilitado.
+
+        List<@Valid TemaImportDto> temas
+) {
+
+    public record TemaImportDto(
+
+            @NotBlank(message = "El nombre del TEMA no puede estar vacío DTO.")
+            @Size(max = 20, message = "El nombre del TEMA no puede superar los 20 caracteres - DTO.")
+            String nombre,
+
+            @NotBlank(message = "La descripción del TEMA no puede estar vacía DTO.")
+            @Size(max = 100, message = "La descripción del TEMA no puede superar los 100 caracteres - DTO.")
+            String descripcion
+    ) {
+    }
+}
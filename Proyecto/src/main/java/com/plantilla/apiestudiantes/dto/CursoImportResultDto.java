@@ -0,0 +1,20 @@
+package com.plantilla.apiestudiantes.dto;
+
+/**
+ * Resultado de la importación de un curso.
+ *
+ * @param indice  Posición del curso en el listado recibido (comienza de 0).
+ * @param nombre  Nombre del curso recibido.
+ * @param success Indica si el curso se guardó.
+ * @param id      Id asignado al curso, o {@code null} si no se guardó.
+ * @param message Mensaje con el resultado o el motivo del rechazo.
+ */
+public record CursoImportResultDto(
+
+        int indice,
+        String nombre,
+        boolean success,
+        Long id,
+        String message
+) {
+}
@@ -0,0 +1,14 @@
+package com.plantilla.apiestudiantes.dto;
+
+/**
+ * Respuesta de {@code /curso/mostrar/{id}} ya serializada a JSON, junto con sus validadores HTTP.
+ *
+ * @param validator ETag y fecha de última modificación del curso.
+ * @param body      El {@code Response<CursoDto>} serializado.
+ */
+public record CursoJsonDto(
+
+        HttpValidatorDto validator,
+        byte[] body
+) {
+}
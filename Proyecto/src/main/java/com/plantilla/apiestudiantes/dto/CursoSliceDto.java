@@ -0,0 +1,31 @@
+package com.plantilla.apiestudiantes.dto;
+
+import com.plantilla.apiestudiantes.model.Curso;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Porción de cursos obtenida con paginación por cursor (keyset).
+ * A diferencia de {@link org.springframework.data.domain.Page}, no informa el total de registros,
+ * por lo que no requiere una consulta de conteo.
+
+ * Conserva los cursos tal como los devolvió la consulta: {@code CursoSliceSerializer} los escribe directamente
+ * con el mismo formato que {@link CursoDto}, sin construir un {@code CursoDto} por curso. Solo se leen los
+ * atributos simples de cada curso, por lo que se puede serializar fuera de la transacción.
+ *
+ * @param content       Cursos de la porción.
+ * @param temasPorCurso Ids de los temas de cada curso, por id de curso.
+ * @param size          Tamaño solicitado.
+ * @param hasNext       Indica si existen más registros después de esta porción.
+ * @param nextCursor    Cursor opaco que se debe enviar en el parámetro {@code after} para obtener la siguiente porción.
+ */
+public record CursoSliceDto(
+
+        List<Curso> content,
+        Map<Long, List<Long>> temasPorCurso,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,39 @@
+package com.plantilla.apiestudiantes.dto;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Formatos disponibles para la exportación de cursos.
+ */
+public enum FormatoExportacion {
+
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    FormatoExportacion(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+
+    public static Optional<FormatoExportacion> of(String formato) {
+        return Arrays.stream(values())
+                .filter(valor -> valor.extension.equalsIgnoreCase(formato))
+                .findFirst();
+    }
+}
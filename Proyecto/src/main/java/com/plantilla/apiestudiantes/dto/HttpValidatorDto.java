@@ -0,0 +1,14 @@
+package com.plantilla.apiestudiantes.dto;
+
+/**
+ * Validadores HTTP de una respuesta, usados para responder solicitudes condicionales con 304.
+ *
+ * @param etag         ETag fuerte (entre comillas) que identifica la versión de la respuesta.
+ * @param lastModified Fecha de última modificación en milisegundos desde epoch, o {@code -1} si no se conoce.
+ */
+public record HttpValidatorDto(
+
+        String etag,
+        long lastModified
+) {
+}
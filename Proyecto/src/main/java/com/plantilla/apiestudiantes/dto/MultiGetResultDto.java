@@ -0,0 +1,20 @@
+package com.plantilla.apiestudiantes.dto;
+
+/**
+ * Resultado de un id en una consulta de varios registros por id.
+ *
+ * @param id    Id solicitado.
+ * @param found Indica si el registro existe.
+ * @param data  El registro, o {@code null} si no existe.
+ */
+public record MultiGetResultDto<T>(
+
+        Long id,
+        boolean found,
+        T data
+) {
+
+    public static <T> MultiGetResultDto<T> of(Long id, T data) {
+        return new MultiGetResultDto<>(id, data != null, data);
+    }
+}
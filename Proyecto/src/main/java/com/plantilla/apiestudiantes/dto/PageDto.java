@@ -0,0 +1,26 @@
+package com.plantilla.apiestudiantes.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Página de resultados que informa si {@code totalElements} (y por lo tanto {@code totalPages}) es exacto
+ * o una aproximación tomada de un conteo en cache, que puede diferir de la cantidad real de registros.
+ */
+public class PageDto<T> extends PageImpl<T> {
+
+    private final boolean totalExacto;
+
+
+    public PageDto(List<T> content, Pageable pageable, long total, boolean totalExacto) {
+        super(content, pageable, total);
+        this.totalExacto = totalExacto;
+    }
+
+
+    public boolean isTotalExacto() {
+        return totalExacto;
+    }
+}
@@ -0,0 +1,15 @@
+package com.plantilla.apiestudiantes.exception;
+
+/**
+ * Excepción base de los errores de negocio esperados (validaciones, recursos inexistentes).
+
+ * No captura la traza de la pila: se lanzan ante datos inválidos de la solicitud, no ante fallas del código,
+ * y capturar la traza es lo más costoso de crear una excepción. {@link GlobalExceptionHandler}
+ * las registra solo con su mensaje.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
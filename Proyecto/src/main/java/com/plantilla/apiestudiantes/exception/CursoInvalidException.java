@@ -1,6 +1,6 @@
 package com.plantilla.apiestudiantes.exception;
 
-public class CursoInvalidException extends RuntimeException {
+public class CursoInvalidException extends BusinessException {
     public CursoInvalidException(String message) {
 
         super(message);
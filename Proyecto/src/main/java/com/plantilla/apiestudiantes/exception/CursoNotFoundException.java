@@ -1,6 +1,6 @@
 package com.plantilla.apiestudiantes.exception;
 
-public class CursoNotFoundException extends RuntimeException {
+public class CursoNotFoundException extends BusinessException {
     public CursoNotFoundException(String message) {
 
         super(message);
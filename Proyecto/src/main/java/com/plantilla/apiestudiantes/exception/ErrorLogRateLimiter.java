@@ -0,0 +1,91 @@
+package com.plantilla.apiestudiantes.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limita la cantidad de logs de error por tipo de excepción.
+
+ * En cada intervalo de {@code app.logging.errors.interval} se registran como máximo
+ * {@code app.logging.errors.max-per-interval} excepciones de cada tipo; el resto se cuenta como suprimido.
+ * El primer log del intervalo siguiente informa cuántas se suprimieron, y el total se publica en la métrica
+ * {@code app.log.suppressed} (tag {@code exception}).
+ */
+@Component
+public class ErrorLogRateLimiter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.logging.errors.max-per-interval:10}")
+    private int maxPorIntervalo;
+
+    @Value("${app.logging.errors.interval:1s}")
+    private Duration intervalo;
+
+    private final ConcurrentMap<Class<?>, Ventana> ventanas = new ConcurrentHashMap<>();
+
+
+    /**
+     * Indica si se puede registrar una excepción del tipo recibido.
+     *
+     * @param tipo El tipo de la excepción.
+     * @return La cantidad de excepciones de ese tipo suprimidas desde el último log, o {@code -1} si esta también
+     * debe suprimirse.
+     */
+    public long adquirir(Class<?> tipo) {
+        Ventana ventana = ventanas.computeIfAbsent(tipo, this::crearVentana);
+        return ventana.adquirir(System.nanoTime(), intervalo.toNanos(), maxPorIntervalo);
+    }
+
+
+
+    // Métodos privados
+
+    private Ventana crearVentana(Class<?> tipo) {
+        return new Ventana(Counter.builder("app.log.suppressed")
+                .description("Logs de error suprimidos por el límite por tipo de excepción")
+                .tag("exception", tipo.getSimpleName())
+                .register(meterRegistry));
+    }
+
+
+
+    // Contadores de un tipo de excepción. Sin locks: en el límite del intervalo puede pasar algún log de más.
+    private static final class Ventana {
+
+        private final Counter suprimidosTotal;
+        private final AtomicLong inicio = new AtomicLong(System.nanoTime());
+        private final AtomicLong registrados = new AtomicLong();
+        private final AtomicLong suprimidos = new AtomicLong();
+
+
+        Ventana(Counter suprimidosTotal) {
+            this.suprimidosTotal = suprimidosTotal;
+        }
+
+
+        long adquirir(long ahora, long intervaloNanos, int maxPorIntervalo) {
+            long inicioActual = inicio.get();
+            if (ahora - inicioActual >= intervaloNanos && inicio.compareAndSet(inicioActual, ahora)) {
+                registrados.set(0);
+            }
+
+            if (registrados.incrementAndGet() <= maxPorIntervalo) {
+                return suprimidos.getAndSet(0);
+            }
+
+            suprimidos.incrementAndGet();
+            suprimidosTotal.increment();
+            return -1;
+        }
+    }
+}
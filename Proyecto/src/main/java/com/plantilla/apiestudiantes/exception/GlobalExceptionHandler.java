@@ -4,13 +4,22 @@ package com.plantilla.apiestudiantes.exception;
 import com.plantilla.apiestudiantes.dto.Response;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 
 import java.util.HashMap;
@@ -20,6 +29,14 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Los logs de cada tipo de excepción tienen un límite por intervalo; ver ErrorLogRateLimiter.
+    @Autowired
+    private ErrorLogRateLimiter errorLogRateLimiter;
+
+    @Autowired
+    @Qualifier("messageSource")
+    private MessageSource messageSource;
+
     /**
      * Maneja las excepciones de tipo {@link CursoNotFoundException}.
      * Esta excepción se lanza cuando no se encuentra un curso en el sistema.
@@ -31,8 +48,8 @@ public class GlobalExceptionHandler {
     // Clase de excepción personalizada para Curso no encontrado
     @ExceptionHandler(CursoNotFoundException.class)
     public ResponseEntity<Response<String>> handleCursoNotFoundException(CursoNotFoundException e) {
-        // Loguear la excepción para detalles de diagnóstico
-        log.error("Curso no encontrado: " + e.getMessage(), e);
+        // Error esperado: se registra sin traza y con límite por tipo
+        registrar(Level.WARN, e.getClass(), null, "Curso no encontrado: {}", e.getMessage());
 
         // Respuesta personalizada para CursoNotFoundException
         Response<String> response = new Response<>(false, e.getMessage(), null);
@@ -53,8 +70,8 @@ public class GlobalExceptionHandler {
     // Clase de excepción personalizada para Curso inválido
     @ExceptionHandler(CursoInvalidException.class)
     public ResponseEntity<Response<String>> handleInvalidCursoException(CursoInvalidException e) {
-        // Loguear la excepción para detalles de diagnóstico
-        log.error("Curso inválido: " + e.getMessage(), e);
+        // Error esperado: se registra sin traza y con límite por tipo
+        registrar(Level.WARN, e.getClass(), null, "Curso inválido: {}", e.getMessage());
 
         // Respuesta personalizada para CursoInvalidException
         Response<String> response = new Response<>(false, e.getMessage(), null);
@@ -76,8 +93,8 @@ public class GlobalExceptionHandler {
     // Clase de excepción personalizada para errores de Tema
     @ExceptionHandler(TemaException.class)
     public ResponseEntity<Response<String>> handleTemaException(TemaException e) {
-        // Loguear la excepción para detalles de diagnóstico
-        log.error("Error en el tema: " + e.getMessage(), e);
+        // Error esperado: se registra sin traza y con límite por tipo
+        registrar(Level.WARN, e.getClass(), null, "Error en el tema: {}", e.getMessage());
 
         Response<String> response = new Response<>(false, e.getMessage(), null);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
@@ -87,6 +104,46 @@ public class GlobalExceptionHandler {
 
 
 
+    /**
+     * Maneja las excepciones de tipo {@link OptimisticLockingFailureException}.
+     * Esta excepción se lanza cuando se intenta modificar un curso o tema con una versión que ya no es la actual,
+     * porque otra solicitud lo modificó antes.
+     *
+     * @param e La excepción lanzada por el conflicto de versiones.
+     * @return Una respuesta HTTP con el código de estado 409 (CONFLICT) y el mensaje de error.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Response<String>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        // Es un resultado esperado de la concurrencia: no se registra la traza completa
+        registrar(Level.WARN, OptimisticLockingFailureException.class, null, "Conflicto de versiones: {}", e.getMessage());
+
+        Response<String> response = new Response<>(false, "El registro fue modificado por otra solicitud. Consúltelo nuevamente antes de modificarlo.", null);
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+
+
+
+
+    /**
+     * Maneja las excepciones de tipo {@link QueryTimeoutException}.
+     * Esta excepción se lanza cuando una consulta, o la espera de una consulta en curso compartida
+     * con otras solicitudes, supera el tiempo máximo.
+     *
+     * @param e La excepción lanzada por el tiempo agotado.
+     * @return Una respuesta HTTP con el código de estado 503 (SERVICE_UNAVAILABLE) y el mensaje de error.
+     */
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<Response<String>> handleQueryTimeout(QueryTimeoutException e) {
+        // Suele indicar sobrecarga de la base de datos: se registra sin traza y con límite por tipo
+        registrar(Level.WARN, QueryTimeoutException.class, null, "Tiempo de consulta agotado: {}", e.getMessage());
+
+        Response<String> response = new Response<>(false, "El servicio está demorado. Inténtelo nuevamente en unos instantes.", null);
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+
+
     /**
      * Maneja las excepciones lanzadas por las validaciones fallidas de un objeto en el cuerpo de la solicitud
      * (por ejemplo, validaciones de @RequestBody).
@@ -101,7 +158,7 @@ public class GlobalExceptionHandler {
         ex.getBindingResult().getFieldErrors().forEach(error -> {
             errors.put(error.getField(), error.getDefaultMessage());
         });
-        log.error("Error de validación: " + errors, ex);
+        registrar(Level.WARN, ex.getClass(), null, "Error de validación: {}", errors);
         Response<Map<String, String>> response = new Response<>(false, "Errores de validación", errors);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
@@ -125,13 +182,36 @@ public class GlobalExceptionHandler {
             String errorMessage = violation.getMessage();
             errors.put(fieldName, errorMessage);
         });
-        log.error("Error de validación en parámetros de controller: " + errors, ex);
+        registrar(Level.WARN, ex.getClass(), null, "Error de validación en parámetros de controller: {}", errors);
         Response<Map<String, String>> response = new Response<>(false, "Errores de validación en los parámetros", errors);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
 
 
+    /**
+     * Maneja las excepciones lanzadas por la validación de métodos de Spring MVC, que aplica las restricciones
+     * declaradas en los parámetros de un controlador sin {@code @Validated} (por ejemplo, {@code @NotEmpty} o
+     * {@code @Size} sobre una lista de {@code @RequestParam}).
+     *
+     * @param ex La excepción lanzada con los resultados de la validación de cada parámetro.
+     * @return Una respuesta HTTP con el código de estado 400 (BAD_REQUEST) y los errores de cada parámetro.
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Response<Map<String, String>>> handleHandlerMethodValidation(HandlerMethodValidationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getAllValidationResults().forEach(result -> {
+            String parameterName = result.getMethodParameter().getParameterName();
+            result.getResolvableErrors().forEach(error -> errors.put(parameterName, error.getDefaultMessage()));
+        });
+        registrar(Level.WARN, ex.getClass(), null, "Error de validación en parámetros de controller: {}", errors);
+        String userMessage = messageSource.getMessage("request.validate.params", null, LocaleContextHolder.getLocale());
+        Response<Map<String, String>> response = new Response<>(false, userMessage, errors);
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+
+
     /**
      * Maneja las excepciones de tipo {@link DataBaseException}.
      * Esta excepción se lanza cuando ocurre un error específico relacionado con la persistencia en la base de datos.
@@ -141,8 +221,9 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(DataBaseException.class)
     public ResponseEntity<Response<String>> handleDataBaseException(DataBaseException ex) {
-        // Loguear el error para diagnóstico
-        log.error("Error al acceder a la base de datos: [ENTIDAD: {}] - [ID {}] -  [NOMBRE:{}] - [OPERACIÓN:{}] -  [CAUSA RAÍZ: {}] - [MENSAJE USUARIO: {}]",
+        // Loguear el error para diagnóstico, con la traza
+        registrar(Level.ERROR, ex.getClass(), ex,
+                "Error al acceder a la base de datos: [ENTIDAD: {}] - [ID {}] -  [NOMBRE:{}] - [OPERACIÓN:{}] -  [CAUSA RAÍZ: {}] - [MENSAJE USUARIO: {}]",
                 ex.getEntityType(),  ex.getEntityId(), ex.getEntityName(), ex.getOperation(), ex.getRootCause(), ex.getMessage());
 
         // Mensaje para el usuario final
@@ -161,8 +242,8 @@ public class GlobalExceptionHandler {
     // Manejo de exception Generales
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Response<String>> handleGeneralException(Exception e) {
-        // Loguear la excepción para detalles de diagnóstico
-        log.error("Error inesperado: " + e.getMessage(), e);
+        // Loguear la excepción para detalles de diagnóstico, con la traza
+        registrar(Level.ERROR, e.getClass(), e, "Error inesperado: {}", e.getMessage());
 
         // Respuesta genérica para cualquier excepción no capturada
         Response<String> response = new Response<>(false, "Ha ocurrido un error inesperado", null);
@@ -171,4 +252,27 @@ public class GlobalExceptionHandler {
 
 
 
+    // Métodos privados
+
+    // Registra el mensaje si el límite de logs del tipo lo permite, agregando cuántos similares se suprimieron.
+    // La traza es opcional: solo se incluye en los errores no esperados.
+    private void registrar(Level nivel, Class<?> tipo, Throwable traza, String mensaje, Object... argumentos) {
+        long suprimidos = errorLogRateLimiter.adquirir(tipo);
+        if (suprimidos < 0) {
+            return;
+        }
+
+        LoggingEventBuilder evento = log.atLevel(nivel).setMessage(mensaje + "{}");
+        for (Object argumento : argumentos) {
+            evento = evento.addArgument(argumento);
+        }
+        evento.addArgument(suprimidos(suprimidos))
+                .setCause(traza)
+                .log();
+    }
+
+
+    private static String suprimidos(long cantidad) {
+        return cantidad > 0 ? " (" + cantidad + " similares suprimidos)" : "";
+    }
 }
@@ -1,6 +1,6 @@
 package com.plantilla.apiestudiantes.exception;
 
-public class TemaException extends RuntimeException {
+public class TemaException extends BusinessException {
     public TemaException(String message) {
 
         super(message);
@@ -6,7 +6,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -15,6 +18,23 @@ import java.util.List;
 
 
 @Entity
+// Índices para los filtros y órdenes de /cursos/listar: las igualdades (modalidad, habilitado) primero, luego la columna
+// del rango u orden y al final el id, que desempata el orden de la paginación. Hay uno por cada combinación que admite
+// CursoService: cualquier subconjunto de las igualdades con el orden por id o por fecha_finalizacion, y el orden por
+// fecha_creacion sin igualdades. El orden por nombre sin filtros usa el índice único de nombre.
+@Table(name = "curso", indexes = {
+        @Index(name = "idx_curso_modalidad", columnList = "modalidad, id"),
+        @Index(name = "idx_curso_habilitado", columnList = "habilitado, id"),
+        @Index(name = "idx_curso_modalidad_habilitado", columnList = "modalidad, habilitado, id"),
+        @Index(name = "idx_curso_modalidad_habilitado_fin", columnList = "modalidad, habilitado, fecha_finalizacion, id"),
+        @Index(name = "idx_curso_modalidad_fin", columnList = "modalidad, fecha_finalizacion, id"),
+        @Index(name = "idx_curso_habilitado_fin", columnList = "habilitado, fecha_finalizacion, id"),
+        @Index(name = "idx_curso_fin", columnList = "fecha_finalizacion, id"),
+        @Index(name = "idx_curso_creacion", columnList = "fecha_creacion, id")
+})
+@DynamicUpdate // El UPDATE incluye solo las columnas modificadas.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "curso")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -23,7 +43,10 @@ import java.util.List;
 
 public class Curso {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Secuencia con optimizador pooled: permite el batching de INSERT (IDENTITY lo deshabilita).
+    // En MySQL Hibernate la emula con la tabla curso_seq.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "curso_seq")
+    @SequenceGenerator(name = "curso_seq", sequenceName = "curso_seq", allocationSize = 50)
     private Long id;
 
     @Column(columnDefinition = "VARCHAR(20)", length = 20 , nullable = false, unique = true)
@@ -40,6 +63,7 @@ public class Curso {
     private Date fecha_finalizacion;
 
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "curso-temas")
     @OneToMany(targetEntity = Tema.class, fetch = FetchType.LAZY, cascade = CascadeType.ALL, mappedBy = "curso") // Esto indica que la relación se maneja desde el campo "curso" en la entidad Tema
     private List<Tema> listaDeTemas;
 
@@ -48,11 +72,14 @@ public class Curso {
 
 
     @CreationTimestamp  // Asigna la fecha y hora de creación de manera automática cuando el registro se inserta en la base de datos.
-    @Column(columnDefinition = "DATETIME", nullable = false, updatable = false)
+    @Column(name = "fecha_creacion", columnDefinition = "DATETIME", nullable = false, updatable = false)
     private LocalDateTime fechaCreacion;
 
     @UpdateTimestamp // Asigna automáticamente la fecha de la última modificación cada vez que el registro se actualiza.
     @Column(columnDefinition = "DATETIME", nullable = false)
     private LocalDateTime fechaUltimaModificacion;
-}
 
+    @Version // Control de concurrencia optimista: cada UPDATE la incrementa y falla si otra transacción la modificó antes.
+    @Column(columnDefinition = "BIGINT DEFAULT 0", nullable = false)
+    private Long version;
+}
@@ -5,19 +5,30 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+// La consulta más frecuente sobre tema es por curso (ids y nombres de los temas de un curso).
+@Table(name = "tema", indexes = @Index(name = "idx_tema_curso_id", columnList = "curso_id"))
+@DynamicUpdate // El UPDATE incluye solo las columnas modificadas.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tema")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 public class Tema {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Secuencia con optimizador pooled: permite el batching de INSERT (IDENTITY lo deshabilita).
+    // En MySQL Hibernate la emula con la tabla tema_seq.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tema_seq")
+    @SequenceGenerator(name = "tema_seq", sequenceName = "tema_seq", allocationSize = 50)
     Long id;
 
 
@@ -29,8 +40,8 @@ public class Tema {
     @Column(columnDefinition = "VARCHAR(100)", length = 100,nullable = true)
     String descripcion;
 
-    // Relación ManyToOne: Un Tema pertenece a un Curso
-    @ManyToOne(targetEntity = Curso.class)
+    // Relación ManyToOne: Un Tema pertenece a un Curso. LAZY: el id del curso se lee de la clave foránea sin cargarlo.
+    @ManyToOne(targetEntity = Curso.class, fetch = FetchType.LAZY)
     @JoinColumn(name = "curso_id", nullable = true) // La columna que va a almacenar la clave foránea del curso
     private Curso curso;
 
@@ -43,4 +54,8 @@ public class Tema {
     @UpdateTimestamp // Asigna automáticamente la fecha de la última modificación cada vez que el registro se actualiza.
     @Column(columnDefinition = "DATETIME", nullable = false)
     private LocalDateTime fechaUltimaModificacion;
+
+    @Version // Control de concurrencia optimista: cada UPDATE la incrementa y falla si otra transacción la modificó antes.
+    @Column(columnDefinition = "BIGINT DEFAULT 0", nullable = false)
+    private Long version;
 }
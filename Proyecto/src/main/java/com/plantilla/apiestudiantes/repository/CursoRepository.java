@@ -1,22 +1,106 @@
 package com.plantilla.apiestudiantes.repository;
 
+import com.plantilla.apiestudiantes.dto.CursoExportRow;
 import com.plantilla.apiestudiantes.model.Curso;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.QueryHint;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface CursoRepository extends JpaRepository<Curso, Long> {
+public interface CursoRepository extends JpaRepository<Curso, Long>, JpaSpecificationExecutor<Curso> {
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Curso> findByNombreIgnoreCase(String nombre);
 
 
     @Query("SELECT c.nombre FROM Curso c WHERE c.id = :id")
     String findNombreCursoById(@Param("id") Long id);
 
+    // Devuelve cuáles de los nombres recibidos ya están registrados. La comparación no distingue mayúsculas por la
+    // collation de la columna; sin aplicar funciones sobre nombre, la consulta usa el índice único.
+    @Query("SELECT c.nombre FROM Curso c WHERE c.nombre IN :nombres")
+    List<String> findNombresExistentes(@Param("nombres") Collection<String> nombres);
+
+    // Recorre todos los cursos con sus temas como filas planas, ordenadas por curso, sin hidratar entidades.
+    // El Stream debe consumirse y cerrarse dentro de una transacción. En MySQL, useCursorFetch=true en BD_URL
+    // hace que el driver respete el fetch size en lugar de traer el resultado completo a memoria.
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT c.id AS id, c.nombre AS nombre, c.modalidad AS modalidad, c.fecha_finalizacion AS fechaFinalizacion, " +
+            "c.habilitado AS habilitado, t.nombre AS tema " +
+            "FROM Curso c LEFT JOIN c.listaDeTemas t ORDER BY c.id, t.id")
+    Stream<CursoExportRow> streamCursosConTemas();
+
+    // Datos de versión de un curso para los validadores HTTP: [última modificación del curso, versión del curso,
+    // última modificación de sus temas, cantidad de temas]. No carga el curso ni sus temas.
+    @Query("SELECT c.fechaUltimaModificacion, c.version, MAX(t.fechaUltimaModificacion), COUNT(t) " +
+            "FROM Curso c LEFT JOIN c.listaDeTemas t WHERE c.id = :id " +
+            "GROUP BY c.id, c.fechaUltimaModificacion, c.version")
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    // Id y nombre de todos los cursos, para construir el índice de búsqueda.
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT c.id, c.nombre FROM Curso c")
+    Stream<Object[]> streamIdNombre();
+
+    @Query("SELECT c.id, c.nombre FROM Curso c WHERE c.id IN :ids")
+    List<Object[]> findIdNombreByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Paginación keyset: devuelve un Slice, por lo que no ejecuta COUNT(*) ni salta filas con OFFSET.
+    Slice<Curso> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Paginación por número de página sin COUNT(*): lee size + 1 filas para saber si hay una página siguiente.
+    Slice<Curso> findAllBy(Pageable pageable);
+
+    // Actualiza solo la modalidad en un único UPDATE, incrementando la versión, sin leer antes el curso. Si se indica
+    // la versión esperada y no coincide con la actual no modifica ninguna fila. Devuelve la cantidad de filas modificadas.
+    // Como todo UPDATE HQL, Hibernate quita de la cache de segundo nivel la región curso e invalida las consultas
+    // cacheadas sobre la tabla al terminar la transacción.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Curso c SET c.modalidad = :modalidad, c.version = c.version + 1, c.fechaUltimaModificacion = :fecha " +
+            "WHERE c.id = :id AND (:version IS NULL OR c.version = :version)")
+    int updateModalidad(@Param("id") Long id, @Param("modalidad") String modalidad, @Param("version") Long version,
+                        @Param("fecha") LocalDateTime fecha);
+
+    default int updateModalidad(Long id, String modalidad, Long version) {
+        return updateModalidad(id, modalidad, version, LocalDateTime.now());
+    }
+
+    // Actualiza la modalidad de varios cursos en una misma transacción, sin versión esperada. Devuelve la cantidad de
+    // filas modificadas por cada curso, en el orden de modalidades.
+    @Transactional
+    default int[] updateModalidades(Map<Long, String> modalidades) {
+        LocalDateTime ahora = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(modalidades.keySet());
+        int[] filas = new int[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            filas[i] = updateModalidad(ids.get(i), modalidades.get(ids.get(i)), null, ahora);
+        }
+        return filas;
+    }
+
 
 
 }
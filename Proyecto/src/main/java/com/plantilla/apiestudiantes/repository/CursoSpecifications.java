@@ -0,0 +1,50 @@
+package com.plantilla.apiestudiantes.repository;
+
+import com.plantilla.apiestudiantes.dto.CursoFiltroDto;
+import com.plantilla.apiestudiantes.model.Curso;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Especificaciones JPA para filtrar cursos. Cada filtro coincide con la columna inicial o de rango
+ * de alguno de los índices declarados en {@link Curso}.
+ */
+public final class CursoSpecifications {
+
+    private CursoSpecifications() {
+    }
+
+
+    public static Specification<Curso> filtrar(CursoFiltroDto filtro) {
+        return (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>();
+
+            if (filtro.modalidad() != null) {
+                predicados.add(cb.equal(root.get("modalidad"), filtro.modalidad()));
+            }
+            if (filtro.habilitado() != null) {
+                predicados.add(cb.equal(root.get("habilitado"), filtro.habilitado()));
+            }
+            if (filtro.finalizacionDesde() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(root.<Date>get("fecha_finalizacion"), java.sql.Date.valueOf(filtro.finalizacionDesde())));
+            }
+            if (filtro.finalizacionHasta() != null) {
+                predicados.add(cb.lessThanOrEqualTo(root.<Date>get("fecha_finalizacion"), java.sql.Date.valueOf(filtro.finalizacionHasta())));
+            }
+            if (filtro.creacionDesde() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("fechaCreacion"), filtro.creacionDesde().atStartOfDay()));
+            }
+            if (filtro.creacionHasta() != null) {
+                // Hasta el final del día indicado.
+                predicados.add(cb.lessThan(root.<LocalDateTime>get("fechaCreacion"), filtro.creacionHasta().plusDays(1).atStartOfDay()));
+            }
+
+            return cb.and(predicados.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,21 +1,67 @@
 package com.plantilla.apiestudiantes.repository;
 
+import com.plantilla.apiestudiantes.dto.TemaDto;
 import com.plantilla.apiestudiantes.model.Tema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TemaRepository extends JpaRepository<Tema, Long> {
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Tema> findByCurso_Id(Long cursoId);
 
     Boolean existsByNombre(String name);
 
+    // Devuelve cuáles de los nombres recibidos ya están registrados.
+    @Query("SELECT t.nombre FROM Tema t WHERE t.nombre IN :nombres")
+    List<String> findNombresExistentes(@Param("nombres") Collection<String> nombres);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("SELECT t.nombre FROM Tema t WHERE t.curso.id = :cursoId")
     List<String> findNameTemasByCursoId(@Param("cursoId")Long cursoId);
 
+    // Solo recupera los ids, sin hidratar las entidades Tema.
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query("SELECT t.id FROM Tema t WHERE t.curso.id = :cursoId ORDER BY t.id")
+    List<Long> findIdsByCursoId(@Param("cursoId") Long cursoId);
+
+    // Devuelve pares [cursoId, temaId] de todos los cursos recibidos en una única consulta.
+    @Query("SELECT t.curso.id, t.id FROM Tema t WHERE t.curso.id IN :cursoIds ORDER BY t.curso.id, t.id")
+    List<Object[]> findIdsByCursoIdIn(@Param("cursoIds") Collection<Long> cursoIds);
+
+    // Proyecciones a TemaDto: seleccionan solo las columnas del DTO (curso.id es la FK), sin hidratar Tema ni Curso.
+    @Query(value = "SELECT new com.plantilla.apiestudiantes.dto.TemaDto(t.id, t.nombre, t.descripcion, t.curso.id) FROM Tema t",
+            countQuery = "SELECT COUNT(t) FROM Tema t")
+    Page<TemaDto> findAllTemaDto(Pageable pageable);
+
+    @Query(value = "SELECT new com.plantilla.apiestudiantes.dto.TemaDto(t.id, t.nombre, t.descripcion, t.curso.id) FROM Tema t WHERE t.curso.id = :cursoId",
+            countQuery = "SELECT COUNT(t) FROM Tema t WHERE t.curso.id = :cursoId")
+    Page<TemaDto> findTemaDtoByCursoId(@Param("cursoId") Long cursoId, Pageable pageable);
+
+    @Query("SELECT new com.plantilla.apiestudiantes.dto.TemaDto(t.id, t.nombre, t.descripcion, t.curso.id) FROM Tema t WHERE t.id = :id")
+    Optional<TemaDto> findTemaDtoById(@Param("id") Long id);
+
+    // Temas asignados a un curso, para el índice de búsqueda.
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.plantilla.apiestudiantes.dto.TemaDto(t.id, t.nombre, t.descripcion, t.curso.id) FROM Tema t WHERE t.curso.id IS NOT NULL")
+    Stream<TemaDto> streamTemaDtoConCurso();
+
+    @Query("SELECT new com.plantilla.apiestudiantes.dto.TemaDto(t.id, t.nombre, t.descripcion, t.curso.id) FROM Tema t WHERE t.curso.id IN :cursosId")
+    List<TemaDto> findTemaDtoByCursoIdIn(@Param("cursosId") Collection<Long> cursosId);
+
 }
@@ -0,0 +1,63 @@
+package com.plantilla.apiestudiantes.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versión en memoria del catálogo de cursos, para los validadores HTTP de {@code /cursos/listar} sin consultar la base.
+
+ * Se incrementa con cada {@link CursoCreadoEvent} y {@link CursoModificadoEvent}; este último también se publica al
+ * asignar un tema a un curso, que es la única escritura de temas que cambia el listado. El identificador de la
+ * ejecución forma parte de la versión, por lo que un ETag de antes de un reinicio o de otra instancia nunca coincide.
+ * Los eventos publicados dentro de una transacción se aplican después del commit: una lectura anterior nunca
+ * asocia la versión nueva a los datos previos. Como {@link CursoDtoCache}, solo ve las modificaciones hechas en
+ * esta instancia.
+ */
+@Component
+public class CursoCatalogoVersion {
+
+    private final String ejecucion = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile long ultimaModificacion = System.currentTimeMillis();
+
+
+    /**
+     * @return La versión actual, distinta en cada ejecución y después de cada modificación.
+     */
+    public String get() {
+        return ejecucion + "-" + Long.toString(version.get(), 36);
+    }
+
+
+    /**
+     * @return La fecha de la última modificación (o del inicio) en milisegundos desde epoch.
+     */
+    public long getUltimaModificacion() {
+        return ultimaModificacion;
+    }
+
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCursoCreado(CursoCreadoEvent event) {
+        incrementar();
+    }
+
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCursoModificado(CursoModificadoEvent event) {
+        incrementar();
+    }
+
+
+
+    // Métodos privados
+
+    private void incrementar() {
+        ultimaModificacion = System.currentTimeMillis();
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,10 @@
+package com.plantilla.apiestudiantes.service;
+
+/**
+ * Evento publicado cada vez que se confirma el alta de un curso.
+ * Permite mantener los contadores en memoria sin volver a contar la tabla.
+ *
+ * @param cursoId El identificador del curso creado.
+ */
+public record CursoCreadoEvent(Long cursoId) {
+}
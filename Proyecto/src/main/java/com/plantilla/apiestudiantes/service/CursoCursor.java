@@ -0,0 +1,44 @@
+package com.plantilla.apiestudiantes.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica y decodifica el cursor opaco usado en la paginación keyset de cursos.
+
+ * El cursor contiene el id del último curso entregado; el cliente no debe interpretarlo,
+ * solo reenviarlo para pedir la siguiente porción.
+ */
+final class CursoCursor {
+
+    private static final String PREFIJO = "id:";
+
+    private CursoCursor() {
+    }
+
+
+    static String encode(Long ultimoId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIJO + ultimoId).getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Decodifica el cursor recibido.
+     *
+     * @param cursor El cursor enviado por el cliente.
+     * @return El id del último curso entregado, o {@code null} si el cursor no es válido.
+     */
+    static Long decode(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!valor.startsWith(PREFIJO)) {
+                return null;
+            }
+            return Long.valueOf(valor.substring(PREFIJO.length()));
+
+        } catch (IllegalArgumentException ex) { // Incluye NumberFormatException
+            return null;
+        }
+    }
+}
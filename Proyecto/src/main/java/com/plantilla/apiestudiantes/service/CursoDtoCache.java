@@ -0,0 +1,69 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.config.CacheConfig;
+import com.plantilla.apiestudiantes.dto.CursoDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache de lectura ({@code read-through}) de los {@link CursoDto} que devuelve {@code getCurso}.
+
+ * El tamaño máximo y la expiración se configuran con {@code spring.cache.caffeine.spec}.
+ * Cada entrada se invalida al recibir un {@link CursoModificadoEvent} del mismo curso y otra vez después del commit,
+ * porque una lectura concurrente puede volver a guardar los datos anteriores mientras la transacción sigue abierta.
+ */
+@Component
+public class CursoDtoCache {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+
+    /**
+     * Devuelve el curso desde la cache o, si no está, lo carga con {@code loader} y lo guarda.
+     * Las excepciones del loader (por ejemplo {@code CursoNotFoundException}) se propagan sin envolver
+     * y el resultado no se guarda.
+     */
+    public CursoDto get(Long cursoId, Callable<CursoDto> loader) {
+        try {
+            return cache().get(cursoId, loader);
+
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+
+    /**
+     * Devuelve el curso si está en la cache, sin cargarlo.
+     */
+    public CursoDto getIfPresent(Long cursoId) {
+        return cache().get(cursoId, CursoDto.class);
+    }
+
+
+    @EventListener
+    public void onCursoModificado(CursoModificadoEvent event) {
+        cache().evict(event.cursoId());
+    }
+
+
+    @TransactionalEventListener
+    public void onCursoModificadoConfirmado(CursoModificadoEvent event) {
+        cache().evict(event.cursoId());
+    }
+
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheConfig.CURSOS_CACHE);
+    }
+}
@@ -0,0 +1,247 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plantilla.apiestudiantes.dto.CursoExportRow;
+import com.plantilla.apiestudiantes.dto.FormatoExportacion;
+import com.plantilla.apiestudiantes.exception.CursoInvalidException;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * Servicio para exportar el catálogo completo de cursos con los nombres de sus temas.
+
+ * Recorre un {@link Stream} de filas planas (curso + tema) leído con fetch size desde la base de datos
+ * y escribe cada curso en la salida apenas se completan sus filas. En memoria solo se mantiene el curso
+ * que se está escribiendo, por lo que el consumo no depende del tamaño de la tabla, y los primeros bytes
+ * se envían antes de que termine la consulta.
+ */
+@Service
+public class CursoExportService implements ICursoExportService {
+
+    // Cantidad de cursos escritos entre cada envío explícito de la salida al cliente.
+    private static final int FLUSH_INTERVAL = 500;
+
+    private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ISO_LOCAL_DATE.withZone(ZoneId.systemDefault());
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("messageSource")
+    private MessageSource messageSource;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+
+    public CursoExportService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+
+    /**
+     * Valida el formato solicitado.
+     *
+     * @param formato Extensión del formato ({@code ndjson} o {@code csv}).
+     * @return El formato correspondiente.
+     * @throws CursoInvalidException Si el formato no está soportado.
+     */
+    @Override
+    public FormatoExportacion resolveFormato(String formato) {
+        return FormatoExportacion.of(formato).orElseThrow(() -> new CursoInvalidException(messageSource.getMessage(
+                "curso.export.format", new Object[]{formato}, LocaleContextHolder.getLocale())));
+    }
+
+
+    /**
+     * Escribe todos los cursos con sus temas en la salida recibida.
+
+     * El {@link Stream} se consume dentro de una transacción de solo lectura, que se mantiene abierta
+     * mientras dura la escritura.
+     *
+     * @param formato El formato de salida.
+     * @param out     La salida de la respuesta HTTP.
+     */
+    @Override
+    public void exportar(FormatoExportacion formato, OutputStream out) {
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<CursoExportRow> filas = cursoRepository.streamCursosConTemas();
+                 CursoWriter writer = formato == FormatoExportacion.CSV ? new CsvCursoWriter(out) : new NdjsonCursoWriter(out)) {
+
+                writeCursos(filas.iterator(), writer);
+
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+
+
+    // Métodos privados
+
+    // Agrupa las filas consecutivas de un mismo curso y escribe el curso cuando cambia el id.
+    private void writeCursos(Iterator<CursoExportRow> filas, CursoWriter writer) throws IOException {
+
+        CursoExportRow actual = null;
+        List<String> temas = new ArrayList<>();
+        int escritos = 0;
+
+        while (filas.hasNext()) {
+            CursoExportRow fila = filas.next();
+
+            if (actual != null && !actual.getId().equals(fila.getId())) {
+                writer.write(actual, temas);
+                temas.clear();
+
+                if (++escritos % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+
+            actual = fila;
+            if (fila.getTema() != null) {
+                temas.add(fila.getTema());
+            }
+        }
+
+        if (actual != null) {
+            writer.write(actual, temas);
+        }
+    }
+
+
+    private static String formatFecha(Date fecha) {
+        // Instant.ofEpochMilli porque java.sql.Date no soporta toInstant().
+        return fecha == null ? null : FORMATO_FECHA.format(Instant.ofEpochMilli(fecha.getTime()));
+    }
+
+
+
+    private interface CursoWriter extends AutoCloseable {
+
+        void write(CursoExportRow curso, List<String> temas) throws IOException;
+
+        void flush() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+
+    // Un objeto JSON por línea.
+    private class NdjsonCursoWriter implements CursoWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonCursoWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            // La salida la cierra Spring al terminar la respuesta.
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(CursoExportRow curso, List<String> temas) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", curso.getId());
+            generator.writeStringField("nombre", curso.getNombre());
+            generator.writeStringField("modalidad", curso.getModalidad());
+            generator.writeStringField("fecha_finalizacion", formatFecha(curso.getFechaFinalizacion()));
+            generator.writeObjectField("habilitado", curso.getHabilitado());
+            generator.writeArrayFieldStart("temas");
+            for (String tema : temas) {
+                generator.writeString(tema);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+
+    // CSV con encabezado; los temas de cada curso van en una única columna separados por '|'.
+    private static class CsvCursoWriter implements CursoWriter {
+
+        private final Writer writer;
+
+        CsvCursoWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.writer.write("id,nombre,modalidad,fecha_finalizacion,habilitado,temas\n");
+        }
+
+        @Override
+        public void write(CursoExportRow curso, List<String> temas) throws IOException {
+            writer.write(String.valueOf(curso.getId()));
+            writer.write(',');
+            writer.write(escape(curso.getNombre()));
+            writer.write(',');
+            writer.write(escape(curso.getModalidad()));
+            writer.write(',');
+            writer.write(escape(formatFecha(curso.getFechaFinalizacion())));
+            writer.write(',');
+            writer.write(String.valueOf(curso.getHabilitado()));
+            writer.write(',');
+            writer.write(escape(String.join("|", temas)));
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Solo se vacía el buffer: la salida la cierra Spring al terminar la respuesta.
+            writer.flush();
+        }
+
+        private static String escape(String valor) {
+            if (valor == null) {
+                return "";
+            }
+            if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+                return valor;
+            }
+            return '"' + valor.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.plantilla.apiestudiantes.config.CacheConfig;
+import com.plantilla.apiestudiantes.config.LecturaPrimaria;
+import com.plantilla.apiestudiantes.config.json.CursoCamposFilter;
+import com.plantilla.apiestudiantes.dto.CursoCampo;
+import com.plantilla.apiestudiantes.dto.CursoJsonDto;
+import com.plantilla.apiestudiantes.dto.HttpValidatorDto;
+import com.plantilla.apiestudiantes.exception.CursoNotFoundException;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+
+/**
+ * Servicio de soporte para las solicitudes condicionales (ETag / Last-Modified) de las lecturas de cursos.
+
+ * Los validadores de un curso se calculan a partir de su versión y {@code fechaUltimaModificacion}, de la
+ * fecha de modificación de sus temas y de la cantidad de temas, con una consulta de agregación que no carga
+ * las entidades; los del listado, a partir de {@link CursoCatalogoVersion}, sin consultas. Además mantiene una cache de las respuestas de {@code /curso/mostrar/{id}} ya serializadas,
+ * para responder los 200 de los cursos más consultados sin pasar por Jackson. Como el mensaje de la respuesta está
+ * traducido, la clave es el curso y el idioma de la solicitud. Las entradas de un curso se invalidan después del commit
+ * de cada {@link CursoModificadoEvent}: hasta entonces los datos confirmados siguen siendo los de la cache.
+ */
+@Service
+public class CursoHttpCacheService implements ICursoHttpCacheService {
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private CursoCatalogoVersion cursoCatalogoVersion;
+
+    @Autowired
+    private ICursoService cursoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("messageSource")
+    private MessageSource messageSource;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+
+    /**
+     * Devuelve la respuesta serializada del curso en el idioma de la solicitud si está en la cache.
+     */
+    @Override
+    public Optional<CursoJsonDto> getCachedCursoJson(Long id) {
+        Cache.ValueWrapper valor = cache().get(new Clave(id, LocaleContextHolder.getLocale()));
+        return valor == null ? Optional.empty() : Optional.of((CursoJsonDto) valor.get());
+    }
+
+
+    /**
+     * Calcula los validadores HTTP de un curso sin cargar el curso ni sus temas.
+     * Cada conjunto de campos solicitado tiene su propio ETag.
+     *
+     * @param id El identificador del curso.
+     * @param campos Los campos de la respuesta.
+     * @return Los validadores del curso.
+     * @throws CursoNotFoundException Si el curso no existe.
+     */
+    @Override
+    public HttpValidatorDto getCursoValidator(Long id, Set<CursoCampo> campos) {
+        List<Object[]> filas = cursoRepository.findVersionById(id);
+        if (filas.isEmpty()) {
+            String userMessage = messageSource.getMessage("curso.validate.id", null, LocaleContextHolder.getLocale());
+            throw new CursoNotFoundException(userMessage);
+        }
+
+        Object[] fila = filas.get(0);
+        LocalDateTime modificacionCurso = (LocalDateTime) fila[0];
+        long version = toLong(fila[1]);
+        LocalDateTime modificacionTemas = (LocalDateTime) fila[2];
+        long cantidadTemas = toLong(fila[3]);
+
+        String prefijo = campos.containsAll(CursoCampo.TODOS) ? "c" + id : "c" + id + "f" + CursoCampo.mascara(campos);
+        String etag = buildEtag(prefijo, version, toMillis(modificacionCurso), toMillis(modificacionTemas), cantidadTemas);
+        return new HttpValidatorDto(etag, max(modificacionCurso, modificacionTemas));
+    }
+
+
+    /**
+     * Obtiene la respuesta de {@code getCurso} serializada a JSON. Solo las respuestas con todos los campos
+     * se guardan en la cache junto con sus validadores.
+
+     * {@code validator} se calculó antes de leer el curso, por lo que una modificación confirmada entre ambas
+     * lecturas dejaría en la cache el cuerpo nuevo (o el anterior) con un ETag que no le corresponde. Después de
+     * guardar la entrada se vuelven a calcular los validadores y, si cambiaron, se quita: una modificación confirmada
+     * antes de esa comprobación se detecta en ella y una posterior quita la entrada en {@link #onCursoModificado}.
+     * La comprobación se hace en la primaria: con réplicas de lectura, {@code validator} pudo venir de una réplica
+     * atrasada, y la entrada solo se conserva si coincide con el estado confirmado.
+     *
+     * @param id        El identificador del curso.
+     * @param validator Los validadores calculados para el curso.
+     * @param campos    Los campos de la respuesta.
+     * @return La respuesta serializada.
+     */
+    @Override
+    public CursoJsonDto buildCursoJson(Long id, HttpValidatorDto validator, Set<CursoCampo> campos) {
+        try {
+            // Los campos no solicitados se omiten de la respuesta con el filtro de la escritura.
+            byte[] body = objectMapper.writer(CursoCamposFilter.de(campos)).writeValueAsBytes(cursoService.getCurso(id, campos));
+            CursoJsonDto json = new CursoJsonDto(validator, body);
+            if (campos.containsAll(CursoCampo.TODOS)) {
+                Clave clave = new Clave(id, LocaleContextHolder.getLocale());
+                cache().put(clave, json);
+                if (!validator.equals(LecturaPrimaria.ejecutar(() -> getCursoValidator(id, campos)))) {
+                    cache().evict(clave);
+                }
+            }
+            return json;
+
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar el curso " + id, ex);
+        }
+    }
+
+
+    /**
+     * Calcula los validadores HTTP de una página del listado de cursos, sin consultar la base de datos.
+
+     * El ETag incluye un resumen de los parámetros de la consulta (página, filtros y orden), por lo que cada
+     * combinación tiene el suyo, y la versión de {@link CursoCatalogoVersion}: cualquier alta o modificación de un
+     * curso, o la asignación de un tema, cambia el ETag de todas las páginas.
+     *
+     * @param consulta Los parámetros de la solicitud ({@code query string}), o {@code null} si no tiene.
+     * @return Los validadores de la página.
+     */
+    @Override
+    public HttpValidatorDto getCatalogoValidator(String consulta) {
+        String parametros = DigestUtils.md5DigestAsHex((consulta == null ? "" : consulta).getBytes(StandardCharsets.UTF_8));
+        String etag = "\"" + parametros.substring(0, 12) + "-" + cursoCatalogoVersion.get() + "\"";
+        return new HttpValidatorDto(etag, cursoCatalogoVersion.getUltimaModificacion());
+    }
+
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCursoModificado(CursoModificadoEvent event) {
+        // Quita las entradas del curso en todos los idiomas.
+        nativeCache().asMap().keySet().removeIf(clave -> ((Clave) clave).id().equals(event.cursoId()));
+    }
+
+
+
+    // Métodos privados
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheConfig.CURSOS_JSON_CACHE);
+    }
+
+
+    // La cache se registra con Caffeine en CacheConfig.
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache().getNativeCache();
+    }
+
+
+    // Una entrada por curso e idioma del mensaje de la respuesta.
+    private record Clave(Long id, Locale locale) {
+    }
+
+
+    private static String buildEtag(String prefijo, long... partes) {
+        StringBuilder etag = new StringBuilder("\"").append(prefijo);
+        for (long parte : partes) {
+            etag.append('-').append(Long.toString(parte, 36));
+        }
+        return etag.append('"').toString();
+    }
+
+
+    private static long toMillis(LocalDateTime fecha) {
+        return fecha == null ? -1 : fecha.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+
+    // Los agregados pueden devolver null (por ejemplo MAX sin temas).
+    private static long toLong(Object valor) {
+        return valor == null ? 0 : ((Number) valor).longValue();
+    }
+
+
+    private static long max(LocalDateTime a, LocalDateTime b) {
+        return Math.max(toMillis(a), toMillis(b));
+    }
+}
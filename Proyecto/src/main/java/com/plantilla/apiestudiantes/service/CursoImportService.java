@@ -0,0 +1,301 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.plantilla.apiestudiantes.dto.CursoImportDto;
+import com.plantilla.apiestudiantes.dto.CursoImportResultDto;
+import com.plantilla.apiestudiantes.dto.Response;
+import com.plantilla.apiestudiantes.exception.CursoInvalidException;
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.model.Tema;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import com.plantilla.apiestudiantes.repository.TemaRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * Servicio para la importación masiva de cursos.
+
+ * Lee el listado de cursos de forma incremental, sin cargar el cuerpo completo en memoria, y lo procesa
+ * en lotes. Por cada lote valida los datos, verifica con una única consulta qué nombres de cursos y temas
+ * ya existen, y guarda los cursos válidos en una transacción. Gracias a los ids por secuencia y a
+ * {@code hibernate.jdbc.batch_size}, los INSERT se envían a la base de datos en batches JDBC.
+
+ * Todos los cursos se leen antes de guardar el primer lote, para que un contenido inválido o que supera
+ * {@code app.curso.import.max-items} se rechace sin haber confirmado nada. La memoria queda acotada por ese máximo.
+ *
+ * @author  Facundo Palmieri
+ * @version 1.0
+ * @since 2024-12-11
+ */
+@Service
+public class CursoImportService implements ICursoImportService {
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private TemaRepository temaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("messageSource")
+    private MessageSource messageSource;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.curso.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.curso.import.max-items:20000}")
+    private int maxItems;
+
+
+    /**
+     * Importa un listado de cursos recibido como un arreglo JSON.
+
+     * Cada curso se informa por separado en el resultado: los cursos inválidos o con nombres repetidos
+     * se rechazan sin afectar al resto. Si un lote no se puede guardar, se revierte completo, sus cursos se
+     * informan con error y el resumen indica cuántos cursos quedaron guardados.
+     *
+     * @param json El arreglo JSON de {@link CursoImportDto}.
+     * @return Un objeto {@link Response} con el resultado de cada curso, en el orden recibido.
+     * @throws CursoInvalidException Si el contenido no es un arreglo JSON válido o supera el máximo permitido.
+     *                               En ambos casos no se guarda ningún curso.
+     */
+    @Override
+    public Response<List<CursoImportResultDto>> importarCursos(InputStream json) {
+
+        List<CursoImportDto> cursos = leerCursos(json);
+        List<CursoImportResultDto> resultados = new ArrayList<>(cursos.size());
+
+        // Nombres reservados por los cursos válidos de esta importación, para detectar repetidos entre lotes.
+        Set<String> nombresCursos = new HashSet<>();
+        Set<String> nombresTemas = new HashSet<>();
+
+        for (int inicio = 0; inicio < cursos.size(); inicio += batchSize) {
+            List<CursoImportDto> lote = cursos.subList(inicio, Math.min(inicio + batchSize, cursos.size()));
+            resultados.addAll(procesarLote(lote, inicio, nombresCursos, nombresTemas));
+        }
+
+        long guardados = resultados.stream().filter(CursoImportResultDto::success).count();
+        String userMessage = getMessage("curso.import.summary", guardados, resultados.size());
+
+        return new Response<>(true, userMessage, resultados);
+    }
+
+
+
+    // Métodos privados
+
+    private List<CursoImportDto> leerCursos(InputStream json) {
+
+        ObjectReader reader = objectMapper.readerFor(CursoImportDto.class);
+        List<CursoImportDto> cursos = new ArrayList<>();
+
+        try (MappingIterator<CursoImportDto> iterator = reader.readValues(json)) {
+            while (iterator.hasNextValue()) {
+                if (cursos.size() == maxItems) {
+                    throw new CursoInvalidException(getMessage("curso.import.limit", maxItems));
+                }
+                cursos.add(iterator.nextValue());
+            }
+
+        } catch (IOException ex) {
+            throw new CursoInvalidException(getMessage("curso.import.invalid"));
+        }
+
+        return cursos;
+    }
+
+
+    private List<CursoImportResultDto> procesarLote(List<CursoImportDto> lote, int indiceInicial,
+                                                    Set<String> nombresCursos, Set<String> nombresTemas) {
+
+        // Una consulta por lote para cursos y otra para temas, en lugar de una por fila.
+        Set<String> cursosExistentes = cursoRepository.findNombresExistentes(
+                        lote.stream()
+                                .map(CursoImportDto::nombre)
+                                .filter(nombre -> nombre != null)
+                                .map(nombre -> nombre.toLowerCase(Locale.ROOT))
+                                .collect(Collectors.toSet()))
+                .stream()
+                .map(nombre -> nombre.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+
+        Set<String> nombresTemasLote = lote.stream()
+                .filter(cursoDto -> cursoDto.temas() != null)
+                .flatMap(cursoDto -> cursoDto.temas().stream())
+                .filter(temaDto -> temaDto != null && temaDto.nombre() != null)
+                .map(CursoImportDto.TemaImportDto::nombre)
+                .collect(Collectors.toSet());
+        Set<String> temasExistentes = nombresTemasLote.isEmpty()
+                ? Set.of()
+                : new HashSet<>(temaRepository.findNombresExistentes(nombresTemasLote));
+
+        CursoImportResultDto[] resultados = new CursoImportResultDto[lote.size()];
+        List<Curso> cursosValidos = new ArrayList<>();
+        List<Integer> posicionesValidas = new ArrayList<>();
+
+        for (int i = 0; i < lote.size(); i++) {
+            CursoImportDto cursoDto = lote.get(i);
+            String error = validar(cursoDto, cursosExistentes, temasExistentes, nombresCursos, nombresTemas);
+
+            if (error != null) {
+                resultados[i] = new CursoImportResultDto(indiceInicial + i, cursoDto.nombre(), false, null, error);
+            } else {
+                cursosValidos.add(buildCurso(cursoDto));
+                posicionesValidas.add(i);
+            }
+        }
+
+        if (!cursosValidos.isEmpty()) {
+            guardarLote(lote, indiceInicial, cursosValidos, posicionesValidas, resultados, nombresCursos, nombresTemas);
+        }
+
+        return List.of(resultados);
+    }
+
+
+    private void guardarLote(List<CursoImportDto> lote, int indiceInicial, List<Curso> cursosValidos,
+                             List<Integer> posicionesValidas, CursoImportResultDto[] resultados,
+                             Set<String> nombresCursos, Set<String> nombresTemas) {
+        try {
+            // Los temas se guardan en cascada; los INSERT se agrupan en batches JDBC al confirmar.
+            List<Curso> guardados = transactionTemplate.execute(status -> cursoRepository.saveAll(cursosValidos));
+
+            for (int j = 0; j < guardados.size(); j++) {
+                Curso curso = guardados.get(j);
+                int posicion = posicionesValidas.get(j);
+                resultados[posicion] = new CursoImportResultDto(indiceInicial + posicion, curso.getNombre(), true,
+                        curso.getId(), getMessage("curso.import.success", curso.getNombre()));
+
+                eventPublisher.publishEvent(new CursoModificadoEvent(curso.getId()));
+                eventPublisher.publishEvent(new CursoCreadoEvent(curso.getId()));
+            }
+
+        } catch (DataAccessException | TransactionException ex) {
+            // Se revierte el lote completo: se informa el error en cada curso válido del lote y se liberan
+            // sus nombres, que ya no están guardados, para los lotes siguientes.
+            for (int posicion : posicionesValidas) {
+                CursoImportDto cursoDto = lote.get(posicion);
+                resultados[posicion] = new CursoImportResultDto(indiceInicial + posicion, cursoDto.nombre(), false, null,
+                        getMessage("curso.save.error", cursoDto.nombre()));
+
+                nombresCursos.remove(cursoDto.nombre().toLowerCase(Locale.ROOT));
+                if (cursoDto.temas() != null) {
+                    cursoDto.temas().forEach(tema -> nombresTemas.remove(tema.nombre()));
+                }
+            }
+        }
+    }
+
+
+    // Devuelve el motivo del rechazo, o null si el curso es válido.
+    private String validar(CursoImportDto cursoDto, Set<String> cursosExistentes, Set<String> temasExistentes,
+                           Set<String> nombresCursos, Set<String> nombresTemas) {
+
+        if (cursoDto == null) {
+            return getMessage("curso.validate.null");
+        }
+
+        Set<ConstraintViolation<CursoImportDto>> violaciones = validator.validate(cursoDto);
+        if (!violaciones.isEmpty()) {
+            return violaciones.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" "));
+        }
+
+        if (!(cursoDto.modalidad().equalsIgnoreCase("Presencial") || cursoDto.modalidad().equalsIgnoreCase("Virtual"))) {
+            return getMessage("curso.validate.modality.error", cursoDto.modalidad());
+        }
+
+        String nombre = cursoDto.nombre().toLowerCase(Locale.ROOT);
+        if (cursosExistentes.contains(nombre)) {
+            return getMessage("curso.validate.name", cursoDto.nombre());
+        }
+        if (nombresCursos.contains(nombre)) {
+            return getMessage("curso.import.duplicated", cursoDto.nombre());
+        }
+
+        List<CursoImportDto.TemaImportDto> temas = cursoDto.temas() != null ? cursoDto.temas() : List.of();
+        Set<String> nombresTemasCurso = new HashSet<>();
+        for (CursoImportDto.TemaImportDto tema : temas) {
+            if (tema == null) {
+                return getMessage("tema.validate.null");
+            }
+            if (temasExistentes.contains(tema.nombre())) {
+                return getMessage("tema.validate.name", tema.nombre());
+            }
+            if (nombresTemas.contains(tema.nombre()) || !nombresTemasCurso.add(tema.nombre())) {
+                return getMessage("tema.import.duplicated", tema.nombre());
+            }
+        }
+
+        // El curso es válido: se reservan sus nombres para el resto de la importación.
+        nombresCursos.add(nombre);
+        nombresTemas.addAll(nombresTemasCurso);
+        return null;
+    }
+
+
+    private Curso buildCurso(CursoImportDto cursoDto) {
+
+        Curso curso = Curso.builder()
+                .nombre(cursoDto.nombre())
+                .modalidad(cursoDto.modalidad())
+                .fecha_finalizacion(cursoDto.fecha_finalizacion())
+                .habilitado(cursoDto.habilitado() != null ? cursoDto.habilitado() : Boolean.TRUE)
+                .build();
+
+        List<Tema> temas = new ArrayList<>();
+        if (cursoDto.temas() != null) {
+            for (CursoImportDto.TemaImportDto temaDto : cursoDto.temas()) {
+                temas.add(Tema.builder()
+                        .nombre(temaDto.nombre())
+                        .descripcion(temaDto.descripcion())
+                        .curso(curso)
+                        .build());
+            }
+        }
+        curso.setListaDeTemas(temas);
+
+        return curso;
+    }
+
+
+    private String getMessage(String code, Object... args) {
+        return messageSource.getMessage(code, args, LocaleContextHolder.getLocale());
+    }
+}
@@ -0,0 +1,231 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Agrupa las modificaciones de modalidad concurrentes en una única transacción (group commit).
+
+ * Las solicitudes de {@link CursoService#editCurso(Long, String, Long)} sin versión se encolan en una cola acotada.
+ * Un hilo las escribe cada {@code app.curso.modalidad-batch.max-delay} o cuando se juntan
+ * {@code app.curso.modalidad-batch.max-size}; si un mismo curso aparece varias veces en el lote, gana la última
+ * modificación. Cada solicitud termina cuando se confirma la transacción de su lote. Los UPDATE son los de
+ * {@link CursoRepository#updateModalidades}, que quitan los cursos de la cache de segundo nivel e invalidan las
+ * consultas cacheadas sobre {@code curso}.
+
+ * Al detenerse escribe lo que quedó en la cola, salvo que el hilo escritor siga ocupado después de
+ * {@code app.curso.modalidad-batch.shutdown-timeout}: entonces esas solicitudes fallan en lugar de escribirse en
+ * paralelo con su lote, que podría aplicar después una modificación anterior del mismo curso.
+
+ * Se habilita con {@code app.curso.modalidad-batch.enabled=true}. Métricas: {@code curso.modalidad.batch.queue}
+ * (solicitudes en cola), {@code curso.modalidad.batch.size} (cursos por lote) y {@code curso.modalidad.batch.flush}
+ * (duración de cada escritura).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.curso.modalidad-batch.enabled", havingValue = "true")
+public class CursoModalidadBatcher {
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.curso.modalidad-batch.max-size:200}")
+    private int maxSize;
+
+    @Value("${app.curso.modalidad-batch.max-delay:5ms}")
+    private Duration maxDelay;
+
+    @Value("${app.curso.modalidad-batch.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.curso.modalidad-batch.shutdown-timeout:10s}")
+    private Duration shutdownTimeout;
+
+    private BlockingQueue<Pendiente> cola;
+    private DistributionSummary tamanioLote;
+    private Timer duracionEscritura;
+    private Thread escritor;
+    private volatile boolean activo;
+
+
+    @PostConstruct
+    public void iniciar() {
+        cola = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("curso.modalidad.batch.queue", cola, BlockingQueue::size)
+                .description("Modificaciones de modalidad pendientes de escribir")
+                .register(meterRegistry);
+        tamanioLote = DistributionSummary.builder("curso.modalidad.batch.size")
+                .description("Cursos distintos escritos en cada lote")
+                .register(meterRegistry);
+        duracionEscritura = Timer.builder("curso.modalidad.batch.flush")
+                .description("Duración de los UPDATE y el commit de cada lote")
+                .register(meterRegistry);
+
+        activo = true;
+        escritor = new Thread(this::procesarCola, "curso-modalidad-batcher");
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+
+
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        activo = false;
+        escritor.interrupt();
+        escritor.join(shutdownTimeout.toMillis());
+
+        // Responde lo que quedó en la cola para no dejar solicitudes esperando.
+        List<Pendiente> restantes = new ArrayList<>();
+        cola.drainTo(restantes);
+        if (restantes.isEmpty()) {
+            return;
+        }
+
+        if (escritor.isAlive()) {
+            log.warn("El escritor de modalidades sigue activo al detenerse; se descartan {} modificaciones", restantes.size());
+            IllegalStateException ex = new IllegalStateException("El escritor de modalidades se está deteniendo");
+            restantes.forEach(pendiente -> pendiente.resultado().completeExceptionally(ex));
+            return;
+        }
+        escribir(restantes);
+    }
+
+
+    /**
+     * Encola la modificación de modalidad y espera a que se confirme la transacción de su lote.
+
+     * Si la cola está llena la escribe en el hilo actual, en su propia transacción.
+     *
+     * @param id        El identificador del curso.
+     * @param modalidad La nueva modalidad.
+     * @return {@code false} si el curso no existe.
+     */
+    public boolean actualizarModalidad(Long id, String modalidad) {
+        Pendiente pendiente = new Pendiente(id, modalidad, new CompletableFuture<>());
+
+        if (!activo || !cola.offer(pendiente)) {
+            escribir(List.of(pendiente));
+
+        } else if (!activo && cola.remove(pendiente)) {
+            // Se detuvo mientras se encolaba y detener() ya vació la cola: nadie más la va a leer.
+            escribir(List.of(pendiente));
+        }
+
+        try {
+            return pendiente.resultado().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw ex;
+        }
+    }
+
+
+
+    // Métodos privados
+
+    private void procesarCola() {
+        long maxDelayNanos = maxDelay.toNanos();
+        List<Pendiente> lote = new ArrayList<>(maxSize);
+
+        while (activo) {
+            try {
+                Pendiente primero = cola.poll(100, TimeUnit.MILLISECONDS);
+                if (primero == null) {
+                    continue;
+                }
+                lote.add(primero);
+                long limite = System.nanoTime() + maxDelayNanos;
+
+                // Junta solicitudes hasta completar el lote o hasta que venza la espera del primero.
+                while (lote.size() < maxSize) {
+                    cola.drainTo(lote, maxSize - lote.size());
+                    long restante = limite - System.nanoTime();
+                    if (lote.size() >= maxSize || restante <= 0) {
+                        break;
+                    }
+                    Pendiente siguiente = cola.poll(restante, TimeUnit.NANOSECONDS);
+                    if (siguiente == null) {
+                        break;
+                    }
+                    lote.add(siguiente);
+                }
+
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                activo = false;
+            }
+
+            // Al detenerse también se escribe el lote ya armado.
+            if (!lote.isEmpty()) {
+                escribir(lote);
+                lote = new ArrayList<>(maxSize);
+            }
+        }
+    }
+
+
+    private void escribir(List<Pendiente> lote) {
+        // La última modificación de cada curso dentro del lote es la que se escribe.
+        Map<Long, String> modalidades = new LinkedHashMap<>();
+        for (Pendiente pendiente : lote) {
+            modalidades.remove(pendiente.id());
+            modalidades.put(pendiente.id(), pendiente.modalidad());
+        }
+
+        List<Long> ids = new ArrayList<>(modalidades.keySet());
+
+        try {
+            int[] filas = duracionEscritura.record(() -> transactionTemplate.execute(status ->
+                    cursoRepository.updateModalidades(modalidades)));
+            tamanioLote.record(ids.size());
+
+            Map<Long, Boolean> actualizados = new LinkedHashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                actualizados.put(ids.get(i), filas[i] > 0);
+            }
+
+            lote.forEach(pendiente -> pendiente.resultado().complete(actualizados.get(pendiente.id())));
+
+        } catch (RuntimeException ex) {
+            log.error("No se pudo escribir el lote de {} modificaciones de modalidad", lote.size(), ex);
+            lote.forEach(pendiente -> pendiente.resultado().completeExceptionally(ex));
+        }
+    }
+
+
+
+    private record Pendiente(Long id, String modalidad, CompletableFuture<Boolean> resultado) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.plantilla.apiestudiantes.service;
+
+/**
+ * Evento publicado cada vez que se crea o modifica un curso, o cambia su lista de temas.
+ * Permite invalidar las copias en memoria del curso sin acoplar los servicios a ellas.
+ *
+ * @param cursoId El identificador del curso afectado.
+ */
+public record CursoModificadoEvent(Long cursoId) {
+}
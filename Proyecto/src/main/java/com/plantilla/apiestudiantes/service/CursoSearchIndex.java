@@ -0,0 +1,399 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.dto.CursoBusquedaDto;
+import com.plantilla.apiestudiantes.dto.TemaDto;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+
+/**
+ * Índice en memoria sobre el nombre de los cursos y el nombre y la descripción de sus temas.
+
+ * Las palabras (en minúsculas y sin acentos) se guardan en un trie; el nodo donde termina cada palabra contiene
+ * su lista invertida: los cursos donde aparece y en qué campo. Una palabra de la búsqueda coincide exactamente
+ * con su nodo y por prefijo con los nodos que cuelgan de él. Al eliminar un curso se podan los nodos que quedan sin
+ * palabras ni hijos, por lo que toda rama del trie termina en una palabra indexada.
+
+ * No es thread-safe: {@link CursoSearchService} lo protege con un lock de lectura/escritura.
+ */
+final class CursoSearchIndex {
+
+    // Peso de cada campo en la relevancia; una coincidencia por prefijo vale la mitad que una exacta.
+    private static final double PESO_NOMBRE = 3;
+    private static final double PESO_TEMA = 2;
+    private static final double PESO_DESCRIPCION = 1;
+    private static final double FACTOR_PREFIJO = 0.5;
+
+    // Palabras que se expanden como máximo por cada prefijo de la búsqueda. Se recorren en anchura (primero las más
+    // cortas) y, en el nivel donde se alcanza el límite, se eligen las que aparecen en más cursos.
+    private static final int MAX_EXPANSIONES = 64;
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Nodo raiz = new Nodo();
+    private final Map<Long, Documento> documentos = new HashMap<>();
+
+
+    /**
+     * Indexa un curso con sus temas, reemplazando lo indexado antes para ese curso.
+     */
+    void indexar(Long cursoId, String nombre, List<TemaDto> temas) {
+        eliminar(cursoId);
+
+        Documento documento = new Documento(nombre, new ArrayList<>());
+        documentos.put(cursoId, documento);
+        for (String palabra : tokens(nombre)) {
+            coincidencia(palabra, cursoId).nombre = true;
+        }
+        temas.forEach(tema -> agregarTema(cursoId, tema));
+    }
+
+
+    /**
+     * Agrega un tema a un curso ya indexado. Se usa al construir el índice completo.
+     */
+    void agregarTema(Long cursoId, TemaDto tema) {
+        Documento documento = documentos.get(cursoId);
+        if (documento == null) {
+            return;
+        }
+        documento.temas().add(tema);
+
+        for (String palabra : tokens(tema.nombre())) {
+            coincidencia(palabra, cursoId).temas().add(tema.id_Tema());
+        }
+        for (String palabra : tokens(tema.descripcion())) {
+            coincidencia(palabra, cursoId).descripciones().add(tema.id_Tema());
+        }
+    }
+
+
+    void eliminar(Long cursoId) {
+        Documento documento = documentos.remove(cursoId);
+        if (documento == null) {
+            return;
+        }
+
+        Set<String> palabras = new HashSet<>(tokens(documento.nombre()));
+        for (TemaDto tema : documento.temas()) {
+            palabras.addAll(tokens(tema.nombre()));
+            palabras.addAll(tokens(tema.descripcion()));
+        }
+        for (String palabra : palabras) {
+            quitar(palabra, cursoId);
+        }
+    }
+
+
+    int size() {
+        return documentos.size();
+    }
+
+
+    /**
+     * Busca los cursos que coinciden con todas las palabras del texto, ordenados por relevancia.
+     *
+     * @param texto  El texto de búsqueda.
+     * @param limite Cantidad máxima de resultados.
+     * @return Los cursos encontrados, con los temas que coincidieron, y las palabras de la búsqueda cuya expansión
+     *         por prefijo se cortó en {@value #MAX_EXPANSIONES} palabras.
+     */
+    Resultado buscar(String texto, int limite) {
+        List<String> palabras = tokens(texto);
+        List<String> truncadas = new ArrayList<>();
+        if (palabras.isEmpty()) {
+            return new Resultado(List.of(), truncadas);
+        }
+
+        Map<Long, Acumulado> acumulados = null;
+        for (String palabra : palabras) {
+            Map<Long, Acumulado> dePalabra = buscarPalabra(palabra, truncadas);
+
+            if (acumulados == null) {
+                acumulados = dePalabra;
+            } else {
+                // Solo quedan los cursos que coinciden con todas las palabras.
+                Iterator<Map.Entry<Long, Acumulado>> it = acumulados.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Long, Acumulado> entrada = it.next();
+                    Acumulado otro = dePalabra.get(entrada.getKey());
+                    if (otro == null) {
+                        it.remove();
+                    } else {
+                        entrada.getValue().score += otro.score;
+                        entrada.getValue().temas.addAll(otro.temas);
+                    }
+                }
+            }
+
+            if (acumulados.isEmpty()) {
+                return new Resultado(List.of(), truncadas);
+            }
+        }
+
+        List<CursoBusquedaDto> cursos = acumulados.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Long, Acumulado>>comparingDouble(entrada -> entrada.getValue().score)
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limite)
+                .map(entrada -> new CursoBusquedaDto(entrada.getKey(), documentos.get(entrada.getKey()).nombre(),
+                        entrada.getValue().score, List.copyOf(entrada.getValue().temas)))
+                .toList();
+        return new Resultado(cursos, truncadas);
+    }
+
+
+    static List<String> tokens(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        String normalizado = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARADORES.split(normalizado)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+
+
+    // Métodos privados
+
+    // Relevancia de cada curso para una palabra: la mejor coincidencia exacta o por prefijo. Si quedan palabras con
+    // ese prefijo sin expandir, agrega la palabra a truncadas.
+    private Map<Long, Acumulado> buscarPalabra(String palabra, List<String> truncadas) {
+        Map<Long, Acumulado> resultado = new HashMap<>();
+        Nodo nodo = buscarNodo(palabra);
+        if (nodo == null) {
+            return resultado;
+        }
+
+        if (nodo.cursos != null) {
+            sumar(resultado, nodo.cursos, 1.0);
+        }
+
+        // Palabras que empiezan con la buscada, nivel por nivel y hasta MAX_EXPANSIONES.
+        List<Nodo> nivel = Arrays.asList(nodo.hijos);
+        int expansiones = 0;
+        while (!nivel.isEmpty()) {
+            List<Nodo> conPalabra = new ArrayList<>();
+            List<Nodo> siguiente = new ArrayList<>();
+            for (Nodo actual : nivel) {
+                if (actual.cursos != null) {
+                    conPalabra.add(actual);
+                }
+                siguiente.addAll(Arrays.asList(actual.hijos));
+            }
+
+            boolean excede = expansiones + conPalabra.size() > MAX_EXPANSIONES;
+            if (excede) {
+                conPalabra.sort(Comparator.comparingInt((Nodo actual) -> actual.cursos.size()).reversed());
+                conPalabra = conPalabra.subList(0, MAX_EXPANSIONES - expansiones);
+            }
+            for (Nodo actual : conPalabra) {
+                sumar(resultado, actual.cursos, FACTOR_PREFIJO);
+            }
+            expansiones += conPalabra.size();
+
+            // Como toda rama termina en una palabra, quedan palabras sin expandir si queda algún nodo por recorrer.
+            if (excede || (expansiones == MAX_EXPANSIONES && !siguiente.isEmpty())) {
+                truncadas.add(palabra);
+                break;
+            }
+            nivel = siguiente;
+        }
+        return resultado;
+    }
+
+
+    private static void sumar(Map<Long, Acumulado> resultado, Map<Long, Coincidencia> cursos, double factor) {
+        cursos.forEach((cursoId, coincidencia) -> {
+            // Sin usar temas() ni descripciones(), que crean los conjuntos: la búsqueda no debe modificar el índice.
+            double score = factor * (coincidencia.nombre ? PESO_NOMBRE
+                    : coincidencia.temas != null ? PESO_TEMA
+                    : PESO_DESCRIPCION);
+
+            Acumulado acumulado = resultado.computeIfAbsent(cursoId, id -> new Acumulado());
+            acumulado.score = Math.max(acumulado.score, score);
+            if (coincidencia.temas != null) {
+                acumulado.temas.addAll(coincidencia.temas);
+            }
+            if (coincidencia.descripciones != null) {
+                acumulado.temas.addAll(coincidencia.descripciones);
+            }
+        });
+    }
+
+
+    private Coincidencia coincidencia(String palabra, Long cursoId) {
+        Nodo nodo = raiz;
+        for (int i = 0; i < palabra.length(); i++) {
+            nodo = nodo.hijoOCrear(palabra.charAt(i));
+        }
+        if (nodo.cursos == null) {
+            nodo.cursos = new HashMap<>(2);
+        }
+        return nodo.cursos.computeIfAbsent(cursoId, id -> new Coincidencia());
+    }
+
+
+    // Quita el curso de la lista invertida de la palabra y poda los nodos que quedan sin palabras ni hijos.
+    private void quitar(String palabra, Long cursoId) {
+        Nodo[] camino = new Nodo[palabra.length() + 1];
+        camino[0] = raiz;
+        for (int i = 0; i < palabra.length(); i++) {
+            camino[i + 1] = camino[i].hijo(palabra.charAt(i));
+            if (camino[i + 1] == null) {
+                return;
+            }
+        }
+
+        Nodo nodo = camino[palabra.length()];
+        if (nodo.cursos == null) {
+            return;
+        }
+        nodo.cursos.remove(cursoId);
+        if (nodo.cursos.isEmpty()) {
+            nodo.cursos = null;
+        }
+
+        for (int i = palabra.length(); i > 0 && camino[i].cursos == null && camino[i].hijos.length == 0; i--) {
+            camino[i - 1].quitarHijo(palabra.charAt(i - 1));
+        }
+    }
+
+
+    private Nodo buscarNodo(String palabra) {
+        Nodo nodo = raiz;
+        for (int i = 0; i < palabra.length() && nodo != null; i++) {
+            nodo = nodo.hijo(palabra.charAt(i));
+        }
+        return nodo;
+    }
+
+
+
+    // Nodo del trie. Los hijos se guardan en arreglos ordenados por carácter para ocupar menos memoria que un mapa.
+    private static final class Nodo {
+
+        private static final char[] SIN_CLAVES = new char[0];
+        private static final Nodo[] SIN_HIJOS = new Nodo[0];
+
+        private char[] claves = SIN_CLAVES;
+        private Nodo[] hijos = SIN_HIJOS;
+
+        // Lista invertida de la palabra que termina en este nodo, o null si ninguna termina aquí.
+        private Map<Long, Coincidencia> cursos;
+
+
+        Nodo hijo(char c) {
+            int i = Arrays.binarySearch(claves, c);
+            return i >= 0 ? hijos[i] : null;
+        }
+
+
+        Nodo hijoOCrear(char c) {
+            int i = Arrays.binarySearch(claves, c);
+            if (i >= 0) {
+                return hijos[i];
+            }
+
+            int posicion = -i - 1;
+            char[] nuevasClaves = new char[claves.length + 1];
+            Nodo[] nuevosHijos = new Nodo[hijos.length + 1];
+            System.arraycopy(claves, 0, nuevasClaves, 0, posicion);
+            System.arraycopy(hijos, 0, nuevosHijos, 0, posicion);
+            System.arraycopy(claves, posicion, nuevasClaves, posicion + 1, claves.length - posicion);
+            System.arraycopy(hijos, posicion, nuevosHijos, posicion + 1, hijos.length - posicion);
+
+            Nodo nuevo = new Nodo();
+            nuevasClaves[posicion] = c;
+            nuevosHijos[posicion] = nuevo;
+            claves = nuevasClaves;
+            hijos = nuevosHijos;
+            return nuevo;
+        }
+
+
+        void quitarHijo(char c) {
+            int i = Arrays.binarySearch(claves, c);
+            if (i < 0) {
+                return;
+            }
+            if (claves.length == 1) {
+                claves = SIN_CLAVES;
+                hijos = SIN_HIJOS;
+                return;
+            }
+
+            char[] nuevasClaves = new char[claves.length - 1];
+            Nodo[] nuevosHijos = new Nodo[hijos.length - 1];
+            System.arraycopy(claves, 0, nuevasClaves, 0, i);
+            System.arraycopy(hijos, 0, nuevosHijos, 0, i);
+            System.arraycopy(claves, i + 1, nuevasClaves, i, claves.length - i - 1);
+            System.arraycopy(hijos, i + 1, nuevosHijos, i, hijos.length - i - 1);
+            claves = nuevasClaves;
+            hijos = nuevosHijos;
+        }
+    }
+
+
+    // En qué campos de un curso aparece una palabra.
+    private static final class Coincidencia {
+
+        private boolean nombre;
+        private Set<Long> temas;
+        private Set<Long> descripciones;
+
+        Set<Long> temas() {
+            if (temas == null) {
+                temas = new HashSet<>(2);
+            }
+            return temas;
+        }
+
+        Set<Long> descripciones() {
+            if (descripciones == null) {
+                descripciones = new HashSet<>(2);
+            }
+            return descripciones;
+        }
+    }
+
+
+    private static final class Acumulado {
+
+        private double score;
+        private final Set<Long> temas = new LinkedHashSet<>();
+    }
+
+
+    private record Documento(String nombre, List<TemaDto> temas) {
+    }
+
+
+    /**
+     * @param cursos    Los cursos encontrados, ordenados por relevancia.
+     * @param truncadas Las palabras de la búsqueda con más de {@value #MAX_EXPANSIONES} palabras indexadas que las
+     *                  extienden; los cursos que solo coinciden con las no expandidas no se incluyen.
+     */
+    record Resultado(List<CursoBusquedaDto> cursos, List<String> truncadas) {
+    }
+}
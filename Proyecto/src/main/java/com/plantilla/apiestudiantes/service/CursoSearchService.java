@@ -0,0 +1,198 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.dto.CursoBusquedaDto;
+import com.plantilla.apiestudiantes.dto.Response;
+import com.plantilla.apiestudiantes.dto.TemaDto;
+import com.plantilla.apiestudiantes.exception.CursoInvalidException;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import com.plantilla.apiestudiantes.repository.TemaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+
+/**
+ * Búsqueda de cursos por nombre y por nombre o descripción de sus temas, sobre un índice en memoria
+ * ({@link CursoSearchIndex}). Las búsquedas no acceden a la base de datos.
+
+ * El índice se construye al iniciar la aplicación y se actualiza con cada {@link CursoModificadoEvent}
+ * (alta o modificación de un curso, alta de un tema). Ambas tareas se ejecutan en un único hilo propio:
+ * las modificaciones se aplican unos milisegundos después de confirmarse, sin demorar la solicitud que las hizo.
+ */
+@Slf4j
+@Service
+public class CursoSearchService implements ICursoSearchService {
+
+    // Cursos que se recargan por consulta al aplicar las modificaciones.
+    private static final int LOTE_ACTUALIZACION = 500;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private TemaRepository temaRepository;
+
+    // Transacción de lectura/escritura: con réplicas de lectura, el índice se carga desde la primaria
+    // para no indexar datos atrasados.
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("messageSource")
+    private MessageSource messageSource;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> pendientes = ConcurrentHashMap.newKeySet();
+    private final ExecutorService actualizador = Executors.newSingleThreadExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "curso-search-index");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+
+    private CursoSearchIndex indice = new CursoSearchIndex();
+
+
+    /**
+     * Busca cursos cuyo nombre, o el nombre o la descripción de alguno de sus temas, contenga todas las palabras
+     * del texto. Cada palabra coincide completa o como prefijo de una palabra indexada; si un prefijo extiende a
+     * demasiadas palabras indexadas, solo se consideran las más cortas y frecuentes y el mensaje lo indica.
+     *
+     * @param texto  El texto de búsqueda.
+     * @param limite Cantidad máxima de cursos.
+     * @return Los cursos encontrados ordenados por relevancia, con los temas que coincidieron.
+     * @throws CursoInvalidException Si el texto está vacío.
+     */
+    @Override
+    public Response<List<CursoBusquedaDto>> buscar(String texto, int limite) {
+        if (texto == null || texto.isBlank()) {
+            throw new CursoInvalidException(messageSource.getMessage("curso.search.empty", null, LocaleContextHolder.getLocale()));
+        }
+
+        CursoSearchIndex.Resultado resultado;
+        lock.readLock().lock();
+        try {
+            resultado = indice.buscar(texto, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<CursoBusquedaDto> cursos = resultado.cursos();
+        String userMessage = resultado.truncadas().isEmpty()
+                ? messageSource.getMessage("curso.search.success", new Object[]{cursos.size()}, LocaleContextHolder.getLocale())
+                : messageSource.getMessage("curso.search.truncated", new Object[]{cursos.size(), String.join(", ", resultado.truncadas())}, LocaleContextHolder.getLocale());
+        return new Response<>(true, userMessage, cursos);
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        actualizador.submit(this::construir);
+    }
+
+
+    @EventListener
+    public void onCursoModificado(CursoModificadoEvent event) {
+        // Si el curso ya estaba pendiente, la tarea que lo va a recargar todavía no se ejecutó.
+        if (pendientes.add(event.cursoId())) {
+            actualizador.submit(this::aplicarPendientes);
+        }
+    }
+
+
+    @PreDestroy
+    public void detener() {
+        actualizador.shutdownNow();
+    }
+
+
+
+    // Métodos privados
+
+    // Construye un índice nuevo con todos los cursos y temas y reemplaza al actual.
+    private void construir() {
+        try {
+            long inicio = System.nanoTime();
+            CursoSearchIndex nuevo = new CursoSearchIndex();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Object[]> cursos = cursoRepository.streamIdNombre()) {
+                    cursos.forEach(fila -> nuevo.indexar((Long) fila[0], (String) fila[1], List.of()));
+                }
+                try (Stream<TemaDto> temas = temaRepository.streamTemaDtoConCurso()) {
+                    temas.forEach(tema -> nuevo.agregarTema(tema.idCurso(), tema));
+                }
+            });
+
+            lock.writeLock().lock();
+            try {
+                indice = nuevo;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Índice de búsqueda construido: {} cursos en {} ms", nuevo.size(), (System.nanoTime() - inicio) / 1_000_000);
+
+        } catch (RuntimeException ex) {
+            log.error("No se pudo construir el índice de búsqueda", ex);
+        }
+    }
+
+
+    // Recarga desde la base los cursos modificados y los reindexa; los que ya no existen se eliminan del índice.
+    private void aplicarPendientes() {
+        List<Long> ids = new ArrayList<>(pendientes);
+        if (ids.isEmpty()) {
+            return;
+        }
+        // Se quitan antes de leer: una modificación posterior a la lectura vuelve a agregar el curso.
+        pendientes.removeAll(ids);
+
+        try {
+            for (int desde = 0; desde < ids.size(); desde += LOTE_ACTUALIZACION) {
+                List<Long> lote = ids.subList(desde, Math.min(desde + LOTE_ACTUALIZACION, ids.size()));
+
+                Map<Long, String> nombres = new HashMap<>();
+                Map<Long, List<TemaDto>> temas = new HashMap<>();
+                transactionTemplate.executeWithoutResult(status -> {
+                    cursoRepository.findIdNombreByIdIn(lote).forEach(fila -> nombres.put((Long) fila[0], (String) fila[1]));
+                    temaRepository.findTemaDtoByCursoIdIn(lote).forEach(tema ->
+                            temas.computeIfAbsent(tema.idCurso(), id -> new ArrayList<>()).add(tema));
+                });
+
+                lock.writeLock().lock();
+                try {
+                    for (Long id : lote) {
+                        if (nombres.containsKey(id)) {
+                            indice.indexar(id, nombres.get(id), temas.getOrDefault(id, List.of()));
+                        } else {
+                            indice.eliminar(id);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+        } catch (RuntimeException ex) {
+            log.error("No se pudo actualizar el índice de búsqueda para los cursos {}", ids, ex);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.plantilla.apiestudiantes.service;
 
+import com.plantilla.apiestudiantes.config.LecturaPrimaria;
 import com.plantilla.apiestudiantes.dto.*;
 import com.plantilla.apiestudiantes.exception.CursoNotFoundException;
 import com.plantilla.apiestudiantes.exception.CursoInvalidException;
@@ -7,15 +8,36 @@ import com.plantilla.apiestudiantes.exception.DataBaseException;
 import com.plantilla.apiestudiantes.model.Curso;
 import com.plantilla.apiestudiantes.model.Tema;
 import com.plantilla.apiestudiantes.repository.CursoRepository;
+import com.plantilla.apiestudiantes.repository.CursoSpecifications;
+import com.plantilla.apiestudiantes.repository.TemaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 
 
 /**
@@ -34,14 +56,60 @@ import org.springframework.stereotype.Service;
 
 @Service
 public class CursoService implements ICursoService {
+
+    // Campos admitidos en el orden del listado y su atributo en Curso.
+    private static final Map<String, String> CAMPOS_ORDEN = Map.of(
+            "id", "id",
+            "nombre", "nombre",
+            "fecha_finalizacion", "fecha_finalizacion",
+            "fechaCreacion", "fechaCreacion");
+
+    // Órdenes que recorren un índice combinados con los filtros de modalidad y habilitado: para cada uno hay un índice
+    // (filtros de igualdad, campo, id) con cualquier combinación de esos filtros (ver Curso).
+    private static final Set<String> ORDENES_CON_IGUALDAD = Set.of("id", "fecha_finalizacion");
+
     @Autowired
     private CursoRepository cursoRepository;
 
+    @Autowired
+    private TemaRepository temaRepository;
+
 
     @Autowired
     @Qualifier("messageSource")
     private MessageSource messageSource;
 
+    @Autowired
+    private CursoDtoCache cursoDtoCache;
+
+    @Autowired
+    private CursoTotalCache cursoTotalCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.single-flight.timeout:5s}")
+    private Duration singleFlightTimeout;
+
+    // Agrupan las cargas concurrentes del mismo curso cuando no está en cursoDtoCache: con sus temas y sin ellos
+    // (sin listaTemasId). Son instancias separadas para que una lectura sin temas no reciba la de otra con temas.
+    private SingleFlight<Long, CursoDto> cargasCurso;
+    private SingleFlight<Long, CursoDto> cargasCursoSinTemas;
+
+    // Solo existe con app.curso.modalidad-batch.enabled=true.
+    @Autowired(required = false)
+    private CursoModalidadBatcher cursoModalidadBatcher;
+
+
+    @PostConstruct
+    public void iniciar() {
+        cargasCurso = new SingleFlight<>("curso", singleFlightTimeout, meterRegistry);
+        cargasCursoSinTemas = new SingleFlight<>("curso-sin-temas", singleFlightTimeout, meterRegistry);
+    }
+
 
     /**
      * Guarda un nuevo curso en el sistema después de realizar las validaciones necesarias
@@ -65,6 +133,8 @@ public class CursoService implements ICursoService {
 
             // Guarda el curso
             Curso cursoAux = cursoRepository.save(curso);
+            eventPublisher.publishEvent(new CursoModificadoEvent(cursoAux.getId()));
+            eventPublisher.publishEvent(new CursoCreadoEvent(cursoAux.getId()));
 
             // Construye el DTO para devolver
             CursoDto cursoDto = buildCursoDtoCreate(cursoAux);
@@ -96,11 +166,7 @@ public class CursoService implements ICursoService {
 
 
     /**
-     * Obtiene los cursos de manera paginada desde el repositorio
-
-     * Este método construye un objeto {@link Pageable} con los parámetros de la página
-     * y el tamaño de la página proporcionados, y luego recupera los cursos correspondientes
-     * desde el repositorio.
+     * Obtiene los cursos de manera paginada desde el repositorio, ordenados por id y sin filtros.
      *
      * @param page número de páginas que desea recuperar(comienza de 0)
      * @param size  El tamaño de la página, es decir, el número máximo de registros por página.
@@ -108,14 +174,63 @@ public class CursoService implements ICursoService {
      */
 
     @Override
+    @Transactional(readOnly = true)
     public Response<Page<CursoDto>> getCursos(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
+        return getCursos(CursoFiltroDto.SIN_FILTROS, page, size, null, true, CursoCampo.TODOS);
+    }
+
+
+    /**
+     * Obtiene los cursos que cumplen los filtros indicados, de manera paginada y ordenada.
+     *
+     * Este método construye un objeto {@link Pageable} con los parámetros de la página,
+     * el tamaño y el orden proporcionados, y luego recupera los cursos correspondientes
+     * desde el repositorio. Los ids de los temas de todos los cursos de la página se obtienen
+     * con una única consulta agrupada, evitando una consulta por curso (N+1).
+
+     * Solo se admite ordenar por los campos de {@link #CAMPOS_ORDEN}; el id se agrega siempre como desempate para
+     * que el orden entre páginas sea estable. Se admite cualquier combinación de filtros y orden. Recorren un índice
+     * de {@link Curso} en el orden pedido, sin ordenar en memoria, un rango de fechas con el orden por esa fecha (que
+     * pasa a ser el orden por defecto) y los filtros de modalidad y habilitado con el orden por id o por fecha de
+     * finalización; el resto ordena las filas filtradas y se cuenta en {@code curso.listado.filesort}.
+
+     * Sin filtros y sin {@code totalExacto}, el total se toma de {@link CursoTotalCache} y no se ejecuta
+     * {@code SELECT COUNT(*)}; la página informa en {@link PageDto#isTotalExacto()} si el total es aproximado.
+     *
+     * @param filtro Los filtros a aplicar; los que son {@code null} se ignoran.
+     * @param page número de páginas que desea recuperar(comienza de 0)
+     * @param size  El tamaño de la página, es decir, el número máximo de registros por página.
+     * @param sort El orden con el formato {@code campo[,asc|desc]}, o {@code null} para ordenar por id.
+     * @param totalExacto Si se debe contar el total de cursos en lugar de usar el valor en cache.
+     * @param campos Los campos de cada curso a devolver. Sin {@code listaTemasId} no se consultan los temas.
+     * @return Un objeto {@link PageDto} que contiene la lista de cursos correspondientes a la página solicitada.
+     * @throws CursoInvalidException Si el orden o la modalidad del filtro no son válidos.
+     */
+
+    @Override
+    @Transactional(readOnly = true)
+    public Response<Page<CursoDto>> getCursos(CursoFiltroDto filtro, int page, int size, String sort, boolean totalExacto,
+                                              Set<CursoCampo> campos) {
+        if (filtro.modalidad() != null) {
+            filtro = filtro.conModalidad(validateModality(filtro.modalidad()));
+        }
+        Pageable pageable = PageRequest.of(page, size, buildSort(sort, filtro));
+
+        OptionalLong totalAproximado = totalExacto || !CursoFiltroDto.SIN_FILTROS.equals(filtro)
+                ? OptionalLong.empty()
+                : cursoTotalCache.get();
+        if (totalAproximado.isPresent()) {
+            return getCursosAproximado(pageable, totalAproximado.getAsLong(), campos);
+        }
 
         //Recupera el listado paginado.
-        Page<Curso> cursos = cursoRepository.findAll(pageable);
+        Page<Curso> cursos = cursoRepository.findAll(CursoSpecifications.filtrar(filtro), pageable);
+
+        //Recupera los ids de temas de toda la página en una sola consulta, solo si se solicitaron.
+        Map<Long, List<Long>> temasPorCurso = findTemasIdsByCursos(cursos.getContent(), campos);
 
         //Mapea Curso a CursoDTO.
-        Page<CursoDto> cursosDto = buildCursoDtoPageable(cursos);
+        Page<CursoDto> cursosDto = buildCursoDtoPageable(cursos, temasPorCurso, campos);
 
         String userMessage = messageSource.getMessage("curso.getAll.success", null, LocaleContextHolder.getLocale());
 
@@ -127,18 +242,184 @@ public class CursoService implements ICursoService {
 
 
 
+    /**
+     * Obtiene los cursos utilizando paginación por cursor (keyset).
+
+     * En lugar de saltar {@code page * size} filas, recupera los cursos cuyo id es mayor al
+     * codificado en el cursor, ordenados por id. No ejecuta consulta de conteo, por lo que
+     * la latencia se mantiene constante sin importar la profundidad de la página.
+     *
+     * @param after Cursor opaco devuelto en la porción anterior, o {@code null} para comenzar desde el principio.
+     * @param size  El número máximo de registros de la porción.
+     * @return Un objeto {@link CursoSliceDto} con los cursos y el cursor de la siguiente porción.
+     * @throws CursoInvalidException Si el cursor recibido no es válido.
+     */
     @Override
+    @Transactional(readOnly = true)
+    public Response<CursoSliceDto> getCursos(String after, int size) {
+
+        //Valída y decodifica el cursor.
+        Long ultimoId = 0L;
+        if (after != null && !after.isBlank()) {
+            ultimoId = CursoCursor.decode(after);
+            if (ultimoId == null) {
+                String userMessage = messageSource.getMessage("curso.validate.cursor", null, LocaleContextHolder.getLocale());
+                throw new CursoInvalidException(userMessage);
+            }
+        }
+
+        //Recupera la porción siguiente al cursor.
+        Slice<Curso> cursos = cursoRepository.findByIdGreaterThanOrderByIdAsc(ultimoId, PageRequest.of(0, size));
+
+        //Los cursos se serializan directamente, sin mapearlos a CursoDTO (ver CursoSliceSerializer).
+        List<Curso> contenido = cursos.getContent();
+        Map<Long, List<Long>> temasPorCurso = findTemasIdsByCursos(contenido);
+
+        String nextCursor = cursos.hasNext()
+                ? CursoCursor.encode(contenido.get(contenido.size() - 1).getId())
+                : null;
+
+        String userMessage = messageSource.getMessage("curso.getAll.success", null, LocaleContextHolder.getLocale());
+
+        return new Response<>(true, userMessage, new CursoSliceDto(contenido, temasPorCurso, size, cursos.hasNext(), nextCursor));
+    }
+
+
+
+
+
+
+    /**
+     * Obtiene un curso por su id.
+
+     * El DTO se sirve desde {@link CursoDtoCache}; solo ante un fallo de cache se consulta
+     * la base de datos (curso + ids de temas). Las solicitudes concurrentes del mismo curso comparten
+     * esa consulta ({@link SingleFlight}) y su resultado o su error. Con réplicas de lectura, lo que se guarda en
+     * la cache se lee de la primaria: una réplica atrasada dejaría en la cache, para todos los clientes, los datos
+     * anteriores a la última modificación.
+     *
+     * @param id El identificador del curso.
+     * @return Un objeto {@link Response} con el curso encontrado.
+     * @throws CursoNotFoundException Si el curso no existe.
+     */
+    @Override
+    @Transactional(readOnly = true)
     public Response<CursoDto> getCurso(Long id) {
+        return getCurso(id, CursoCampo.TODOS);
+    }
+
+
+    /**
+     * Obtiene un curso por su id, solo con los campos indicados.
+
+     * Si no se solicita {@code listaTemasId} y el curso no está en {@link CursoDtoCache}, se lee solo el curso,
+     * sin consultar sus temas, y el DTO incompleto no se guarda en la cache. En ambos casos las solicitudes
+     * concurrentes del mismo curso comparten la consulta ({@link SingleFlight}).
+     *
+     * @param id El identificador del curso.
+     * @param campos Los campos a devolver; el resto queda en {@code null} y no se serializa.
+     * @return Un objeto {@link Response} con el curso encontrado.
+     * @throws CursoNotFoundException Si el curso no existe.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Response<CursoDto> getCurso(Long id, Set<CursoCampo> campos) {
+
+        //Recupera el DTO desde la cache, o lo construye validando que el curso exista.
+        CursoDto cursoDto = cursoDtoCache.getIfPresent(id);
+        if (cursoDto == null && !campos.contains(CursoCampo.LISTA_TEMAS_ID)) {
+            cursoDto = cargasCursoSinTemas.execute(id, () -> buildCursoDto(findByIdCurso(id), null));
+
+        } else if (cursoDto == null) {
+            // La cache es compartida: se completa con la primaria (ver getCurso(Long)).
+            cursoDto = cargasCurso.execute(id, () -> cursoDtoCache.get(id, () -> LecturaPrimaria.ejecutar(() -> {
+                Curso curso = findByIdCurso(id);
+                return buildCursoDto(curso, temaRepository.findIdsByCursoId(curso.getId()));
+            })));
+        }
+
+        String userMessage = messageSource.getMessage("curso.get.success", new Object[]{cursoDto.nombre()}, LocaleContextHolder.getLocale());
+
+        return new Response<>(true, userMessage, CursoCampo.proyectar(cursoDto, campos));
+    }
+
+
+    /**
+     * Valida y convierte el parámetro {@code fields} de las lecturas de cursos.
+     *
+     * @param fields Los nombres de los campos separados por coma, o {@code null} para todos. Los nombres vacíos
+     *               entre comas se ignoran.
+     * @return Los campos solicitados.
+     * @throws CursoInvalidException Si algún campo no existe o si no se indica ninguno (por ejemplo {@code fields=,}).
+     */
+    @Override
+    public Set<CursoCampo> resolveCampos(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return CursoCampo.TODOS;
+        }
+
+        Set<CursoCampo> campos = EnumSet.noneOf(CursoCampo.class);
+        for (String nombre : fields.split(",")) {
+            if (nombre.isBlank()) {
+                continue;
+            }
+            campos.add(CursoCampo.of(nombre.trim()).orElseThrow(() -> new CursoInvalidException(messageSource.getMessage(
+                    "curso.validate.fields", new Object[]{nombre.trim()}, LocaleContextHolder.getLocale()))));
+        }
+        if (campos.isEmpty()) {
+            throw new CursoInvalidException(messageSource.getMessage("curso.validate.fields.empty", null, LocaleContextHolder.getLocale()));
+        }
+        return campos;
+    }
+
+
+
+
+
+
+    /**
+     * Obtiene varios cursos por sus ids, en el orden solicitado.
 
-        //Valída y recupera el curso.
-        Curso curso = findByIdCurso(id);
+     * Los cursos que están en {@link CursoDtoCache} se toman de ahí; el resto se lee con un único
+     * {@code findAllById} y los ids de sus temas con una única consulta agrupada. Los ids que no existen
+     * se informan con {@code found = false} en lugar de fallar la consulta completa.
+     *
+     * @param ids Los identificadores de los cursos; puede contener repetidos.
+     * @return Un objeto {@link Response} con un resultado por cada id solicitado.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Response<List<MultiGetResultDto<CursoDto>>> getCursos(List<Long> ids) {
+
+        //Separa los cursos en cache de los que hay que consultar.
+        Map<Long, CursoDto> cursosDto = new HashMap<>();
+        Set<Long> faltantes = new LinkedHashSet<>();
+        for (Long id : ids) {
+            CursoDto cursoDto = cursoDtoCache.getIfPresent(id);
+            if (cursoDto != null) {
+                cursosDto.put(id, cursoDto);
+            } else {
+                faltantes.add(id);
+            }
+        }
+
+        //Recupera los faltantes y los ids de sus temas en dos consultas.
+        if (!faltantes.isEmpty()) {
+            List<Curso> cursos = cursoRepository.findAllById(faltantes);
+            Map<Long, List<Long>> temasPorCurso = findTemasIdsByCursos(cursos);
+            for (Curso curso : cursos) {
+                cursosDto.put(curso.getId(), buildCursoDto(curso, temasPorCurso.getOrDefault(curso.getId(), List.of())));
+            }
+        }
 
-        //Se construye un DTO.
-        CursoDto cursoDto= buildCursoDto(curso);
+        List<MultiGetResultDto<CursoDto>> resultados = ids.stream()
+                .map(id -> MultiGetResultDto.of(id, cursosDto.get(id)))
+                .toList();
 
-        String userMessage = messageSource.getMessage("curso.get.success", new Object[]{curso.getNombre()}, LocaleContextHolder.getLocale());
+        String userMessage = messageSource.getMessage("curso.getByIds.success",
+                new Object[]{cursosDto.size(), new LinkedHashSet<>(ids).size()}, LocaleContextHolder.getLocale());
 
-        return new Response<>(true, userMessage, cursoDto);
+        return new Response<>(true, userMessage, resultados);
     }
 
 
@@ -147,21 +428,32 @@ public class CursoService implements ICursoService {
 
 
     @Override
-    public Response<CursoDto> editCurso(Long id, String nuevaModalidad) {
+    public Response<CursoDto> editCurso(Long id, String nuevaModalidad, Long version) {
 
-        //Valída y recupera Curso.
+        validateModality(nuevaModalidad);
 
-        String validationMessage = messageSource.getMessage("curso.validate.id", null, LocaleContextHolder.getLocale());
-        Curso cursoModificado = cursoRepository.findById(id).orElseThrow(() -> new CursoNotFoundException(validationMessage));
+        // Actualiza solo la modalidad con un único UPDATE, sin leer antes el curso. Sin versión esperada,
+        // y con el batcher habilitado, el UPDATE se agrupa con las modificaciones concurrentes de otros cursos.
+        boolean actualizado = version == null && cursoModalidadBatcher != null
+                ? cursoModalidadBatcher.actualizarModalidad(id, nuevaModalidad)
+                : cursoRepository.updateModalidad(id, nuevaModalidad, version) > 0;
 
-        // Actualiza atributo
-        cursoModificado.setModalidad(nuevaModalidad);
+        if (!actualizado) {
 
-        //Guarda en BD
-        cursoRepository.save(cursoModificado);
+            // Ninguna fila modificada: el curso no existe o su versión no es la esperada.
+            if (!cursoRepository.existsById(id)) {
+                String validationMessage = messageSource.getMessage("curso.validate.id", null, LocaleContextHolder.getLocale());
+                throw new CursoNotFoundException(validationMessage);
+            }
+            throw new ObjectOptimisticLockingFailureException(Curso.class, id);
+        }
+        eventPublisher.publishEvent(new CursoModificadoEvent(id));
+
+        // El UPDATE quita los cursos de la cache de segundo nivel, por lo que se lee el estado actualizado.
+        Curso cursoModificado = findByIdCurso(id);
 
         String userMessage = messageSource.getMessage("curso.update.success", new Object[]{cursoModificado.getNombre()}, LocaleContextHolder.getLocale());
-        return new Response<>(true, userMessage, buildCursoDto(cursoModificado));
+        return new Response<>(true, userMessage, buildCursoDto(cursoModificado, temaRepository.findIdsByCursoId(id)));
 
     }
 
@@ -173,10 +465,19 @@ public class CursoService implements ICursoService {
     public Response<CursoDto> editCurso(CursoDto cursoDto) {
 
         //Valída y Recupera el curso
+        if (cursoDto.id() == null) {
+            throw new CursoInvalidException(messageSource.getMessage("curso.validate.null", null, LocaleContextHolder.getLocale()));
+        }
         String validationMessage = messageSource.getMessage("curso.validate.id", null, LocaleContextHolder.getLocale());
         Curso curso = cursoRepository.findById(cursoDto.id()).orElseThrow(() -> new CursoNotFoundException(validationMessage));
 
-        //Actualiza el curso
+        // El curso leído está asociado a la sesión: Hibernate ignora setVersion y compara en el UPDATE la versión
+        // que leyó. La versión enviada se compara explícitamente; la del UPDATE cubre las modificaciones
+        // concurrentes posteriores a esta lectura.
+        if (cursoDto.version() != null && !cursoDto.version().equals(curso.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Curso.class, curso.getId());
+        }
+
         // Actualiza el curso con los datos del DTO
         curso.setNombre(cursoDto.nombre());
         curso.setModalidad(cursoDto.modalidad());
@@ -184,9 +485,10 @@ public class CursoService implements ICursoService {
 
         //Guarda en BD
          Curso cursoModificado = cursoRepository.save(curso);
+        eventPublisher.publishEvent(new CursoModificadoEvent(cursoModificado.getId()));
 
         //Construye Respuesta
-        CursoDto cursoDtoRta = buildCursoDto(cursoModificado);
+        CursoDto cursoDtoRta = buildCursoDto(cursoModificado, temaRepository.findIdsByCursoId(cursoModificado.getId()));
 
         String userMessage = messageSource.getMessage("curso.update.success", new Object[]{cursoModificado.getNombre()}, LocaleContextHolder.getLocale());
         return new Response<>(true, userMessage, cursoDtoRta);
@@ -211,12 +513,72 @@ public class CursoService implements ICursoService {
     }
 
 
+    // Los métodos de mapeo son protected para poder medirlos con los benchmarks JMH (src/jmh/java).
+
+    // Recibe los ids de los temas ya consultados para no inicializar la colección LAZY listaDeTemas.
+    protected CursoDto buildCursoDto (Curso curso, List<Long> temasId) {
+
+        return CursoDto.builder()
+                .id(curso.getId()) // Método generado automáticamente en el record
+                .nombre(curso.getNombre())
+                .modalidad(curso.getModalidad())
+                .fecha_finalizacion(curso.getFecha_finalizacion())
+                .listaTemasId(temasId)
+                .version(curso.getVersion())
+                .build();
+    }
+
+
+    protected Page<CursoDto>  buildCursoDtoPageable (Page<Curso> cursos, Map<Long, List<Long>> temasPorCurso) {
+
+        return buildCursoDtoPageable(cursos, temasPorCurso, CursoCampo.TODOS);
+    }
+
+
+    protected Page<CursoDto>  buildCursoDtoPageable (Page<Curso> cursos, Map<Long, List<Long>> temasPorCurso,
+                                                     Set<CursoCampo> campos) {
+
+        return new PageDto<>(buildCursoDtoList(cursos.getContent(), temasPorCurso, campos), cursos.getPageable(),
+                cursos.getTotalElements(), true);
+    }
+
+
 
 
 
 
     // Métodos privados
 
+    private Response<Page<CursoDto>> getCursosAproximado (Pageable pageable, long totalAproximado, Set<CursoCampo> campos) {
+
+        //Recupera la página sin COUNT(*).
+        Slice<Curso> cursos = cursoRepository.findAllBy(pageable);
+        Map<Long, List<Long>> temasPorCurso = findTemasIdsByCursos(cursos.getContent(), campos);
+
+        // Si es la última página, el total se conoce sin contar. Si no, el total no puede ser menor
+        // a los cursos ya vistos más uno de la página siguiente, aunque la cache esté desactualizada.
+        long vistos = pageable.getOffset() + cursos.getNumberOfElements();
+        boolean ultimaPagina = !cursos.hasNext() && (cursos.hasContent() || pageable.getPageNumber() == 0);
+        long total = ultimaPagina ? vistos : Math.max(totalAproximado, cursos.hasNext() ? vistos + 1 : vistos);
+
+        Page<CursoDto> cursosDto = new PageDto<>(buildCursoDtoList(cursos.getContent(), temasPorCurso, campos), pageable,
+                total, ultimaPagina);
+
+        String userMessage = messageSource.getMessage("curso.getAll.success", null, LocaleContextHolder.getLocale());
+
+        return new Response<>(true, userMessage,cursosDto);
+    }
+
+
+    private List<CursoDto> buildCursoDtoList (List<Curso> cursos, Map<Long, List<Long>> temasPorCurso,
+                                              Set<CursoCampo> campos) {
+        return cursos.stream()
+                .map(curso -> buildCursoDto(curso, temasPorCurso.getOrDefault(curso.getId(), List.of())))
+                .map(cursoDto -> CursoCampo.proyectar(cursoDto, campos))
+                .toList();
+    }
+
+
     private void validateNameNotExist (String name) {
         if (cursoRepository.findByNombreIgnoreCase(name).isPresent()) {
             // Obtiene el mensaje desde el archivo de propiedades
@@ -231,7 +593,8 @@ public class CursoService implements ICursoService {
 
     }
 
-    private void validateModality (String modality) {
+    // Devuelve la modalidad con su forma registrada (Presencial o Virtual), sin distinguir mayúsculas.
+    private String validateModality (String modality) {
 
         if(modality == null || modality.isEmpty()){
             throw new CursoInvalidException("curso.validate.modality.empty");
@@ -246,6 +609,63 @@ public class CursoService implements ICursoService {
             throw new CursoInvalidException(userMessage);
         }
 
+        return modality.equalsIgnoreCase("Presencial") ? "Presencial" : "Virtual";
+    }
+
+
+    private Sort buildSort (String sort, CursoFiltroDto filtro) {
+        boolean rangoFinalizacion = filtro.finalizacionDesde() != null || filtro.finalizacionHasta() != null;
+        boolean rangoCreacion = filtro.creacionDesde() != null || filtro.creacionHasta() != null;
+
+        String campo;
+        Sort.Direction direccion;
+        if (sort == null || sort.isBlank()) {
+            // Con un rango de fechas se ordena por esa fecha, para recorrer su índice en lugar de ordenar en memoria.
+            campo = rangoFinalizacion ? "fecha_finalizacion" : rangoCreacion ? "fechaCreacion" : "id";
+            direccion = Sort.Direction.ASC;
+
+        } else {
+            String[] partes = sort.split(",");
+            campo = CAMPOS_ORDEN.get(partes[0].trim());
+            direccion = partes.length == 1 ? Sort.Direction.ASC
+                    : Sort.Direction.fromOptionalString(partes[1].trim()).orElse(null);
+
+            if (campo == null || direccion == null || partes.length > 2) {
+                String userMessage = messageSource.getMessage(
+                        "curso.validate.sort",
+                        new Object[]{sort},
+                        LocaleContextHolder.getLocale()
+                );
+                throw new CursoInvalidException(userMessage);
+            }
+        }
+
+        // Sin un índice que recorra el orden pedido con estos filtros, la base ordena en memoria las filas filtradas
+        // (filesort). Se admite igual y se cuenta, para detectar las combinaciones frecuentes que merecen un índice.
+        boolean igualdad = filtro.modalidad() != null || filtro.habilitado() != null;
+        if ((rangoFinalizacion && !campo.equals("fecha_finalizacion"))
+                || (rangoCreacion && !campo.equals("fechaCreacion"))
+                || (igualdad && !ORDENES_CON_IGUALDAD.contains(campo))) {
+            meterRegistry.counter("curso.listado.filesort", "sort", campo).increment();
+        }
+
+        // Los filtros de igualdad encabezan el orden: son constantes en el resultado, por lo que no lo cambian, y así
+        // el orden coincide con las columnas iniciales del índice (modalidad, habilitado, campo, id). El id desempata
+        // en la misma dirección, salvo con el nombre, que es único y tiene su propio índice.
+        List<Sort.Order> orden = new ArrayList<>();
+        if (filtro.modalidad() != null) {
+            orden.add(new Sort.Order(direccion, "modalidad"));
+        }
+        if (filtro.habilitado() != null) {
+            orden.add(new Sort.Order(direccion, "habilitado"));
+        }
+        if (!campo.equals("id")) {
+            orden.add(new Sort.Order(direccion, campo));
+        }
+        if (!campo.equals("nombre")) {
+            orden.add(new Sort.Order(direccion, "id"));
+        }
+        return Sort.by(orden);
     }
 
 
@@ -256,37 +676,33 @@ public class CursoService implements ICursoService {
                 .nombre(curso.getNombre())
                 .modalidad(curso.getModalidad())
                 .fecha_finalizacion(curso.getFecha_finalizacion())
+                .version(curso.getVersion())
                 .build();
     }
 
 
-    private CursoDto buildCursoDto (Curso curso) {
-
-        return CursoDto.builder()
-                .id(curso.getId()) // Método generado automáticamente en el record
-                .nombre(curso.getNombre())
-                .modalidad(curso.getModalidad())
-                .fecha_finalizacion(curso.getFecha_finalizacion())
-                .listaTemasId(curso.getListaDeTemas().stream()
-                        .map(Tema::getId)
-                        .toList())
-                .build();
+    // Agrupa por curso los ids de temas de todos los cursos recibidos, usando una única consulta.
+    // Sin listaTemasId entre los campos solicitados no se consultan los temas.
+    private Map<Long, List<Long>> findTemasIdsByCursos (List<Curso> cursos, Set<CursoCampo> campos) {
+        return campos.contains(CursoCampo.LISTA_TEMAS_ID) ? findTemasIdsByCursos(cursos) : Collections.emptyMap();
     }
 
 
+    private Map<Long, List<Long>> findTemasIdsByCursos (List<Curso> cursos) {
 
+        if (cursos.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-    private Page<CursoDto>  buildCursoDtoPageable (Page<Curso> cursos) {
+        List<Long> cursosId = cursos.stream()
+                .map(Curso::getId)
+                .toList();
 
-        return cursos.map(curso -> CursoDto.builder()
-                .id(curso.getId())
-                .nombre(curso.getNombre())
-                .modalidad(curso.getModalidad())
-                .fecha_finalizacion(curso.getFecha_finalizacion())
-                .listaTemasId(curso.getListaDeTemas().stream() // Que Tipo de dato tiene la lista? RTA = TEMA
-                        .map(Tema::getId) // De ese tema, obtengo el ID
-                        .toList())
-                .build());
+        Map<Long, List<Long>> temasPorCurso = new HashMap<>();
+        for (Object[] fila : temaRepository.findIdsByCursoIdIn(cursosId)) {
+            temasPorCurso.computeIfAbsent((Long) fila[0], k -> new ArrayList<>()).add((Long) fila[1]);
+        }
+        return temasPorCurso;
     }
 
 
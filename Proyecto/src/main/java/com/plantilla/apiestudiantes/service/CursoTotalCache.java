@@ -0,0 +1,59 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cantidad total de cursos en memoria, para paginar {@code /cursos/listar} sin un {@code SELECT COUNT(*)} por solicitud.
+
+ * El valor se suma con cada {@link CursoCreadoEvent} y se recalcula con un conteo real cada
+ * {@code app.curso.total.refresh-interval}, lo que corrige las diferencias con otras instancias o con cambios
+ * hechos directamente en la base. Hasta el primer conteo no hay valor y los listados usan el conteo exacto.
+ */
+@Slf4j
+@Component
+public class CursoTotalCache {
+
+    private static final long SIN_VALOR = -1;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    private final AtomicLong total = new AtomicLong(SIN_VALOR);
+
+
+    /**
+     * @return La cantidad aproximada de cursos, o vacío si todavía no se contaron.
+     */
+    public OptionalLong get() {
+        long valor = total.get();
+        return valor == SIN_VALOR ? OptionalLong.empty() : OptionalLong.of(valor);
+    }
+
+
+    @Scheduled(initialDelayString = "${app.curso.total.initial-delay:0s}",
+            fixedDelayString = "${app.curso.total.refresh-interval:5m}")
+    public void refrescar() {
+        try {
+            total.set(cursoRepository.count());
+
+        } catch (DataAccessException ex) {
+            // Se conserva el valor anterior; el próximo refresco lo vuelve a intentar.
+            log.warn("No se pudo actualizar el total de cursos: {}", ex.getMessage());
+        }
+    }
+
+
+    @EventListener
+    public void onCursoCreado(CursoCreadoEvent event) {
+        total.updateAndGet(valor -> valor == SIN_VALOR ? SIN_VALOR : valor + 1);
+    }
+}
@@ -0,0 +1,13 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.dto.FormatoExportacion;
+
+import java.io.OutputStream;
+
+public interface ICursoExportService {
+
+    public FormatoExportacion resolveFormato(String formato);
+
+    public void exportar(FormatoExportacion formato, OutputStream out);
+
+}
@@ -0,0 +1,20 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.dto.CursoCampo;
+import com.plantilla.apiestudiantes.dto.CursoJsonDto;
+import com.plantilla.apiestudiantes.dto.HttpValidatorDto;
+
+import java.util.Optional;
+import java.util.Set;
+
+public interface ICursoHttpCacheService {
+
+    public Optional<CursoJsonDto> getCachedCursoJson(Long id);
+
+    public HttpValidatorDto getCursoValidator(Long id, Set<CursoCampo> campos);
+
+    public CursoJsonDto buildCursoJson(Long id, HttpValidatorDto validator, Set<CursoCampo> campos);
+
+    public HttpValidatorDto getCatalogoValidator(String consulta);
+
+}
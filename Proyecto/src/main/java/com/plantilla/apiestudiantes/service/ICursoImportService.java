@@ -0,0 +1,13 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.dto.CursoImportResultDto;
+import com.plantilla.apiestudiantes.dto.Response;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface ICursoImportService {
+
+    public Response<List<CursoImportResultDto>> importarCursos(InputStream json);
+
+}
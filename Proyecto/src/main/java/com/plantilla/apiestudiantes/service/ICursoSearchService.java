@@ -0,0 +1,12 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.dto.CursoBusquedaDto;
+import com.plantilla.apiestudiantes.dto.Response;
+
+import java.util.List;
+
+public interface ICursoSearchService {
+
+    public Response<List<CursoBusquedaDto>> buscar(String texto, int limite);
+
+}
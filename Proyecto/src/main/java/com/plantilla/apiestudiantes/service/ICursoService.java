@@ -1,21 +1,39 @@
 package com.plantilla.apiestudiantes.service;
 
+import com.plantilla.apiestudiantes.dto.CursoCampo;
 import com.plantilla.apiestudiantes.dto.CursoDto;
+import com.plantilla.apiestudiantes.dto.CursoFiltroDto;
+import com.plantilla.apiestudiantes.dto.CursoSliceDto;
+import com.plantilla.apiestudiantes.dto.MultiGetResultDto;
 import com.plantilla.apiestudiantes.dto.Response;
 import com.plantilla.apiestudiantes.model.Curso;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+import java.util.Set;
+
 public interface ICursoService {
 
     public Response<CursoDto> saveCurso(Curso curso);
 
     public Response<Page<CursoDto>> getCursos(int page, int size);
 
+    public Response<Page<CursoDto>> getCursos(CursoFiltroDto filtro, int page, int size, String sort, boolean totalExacto,
+                                                     Set<CursoCampo> campos);
+
+    public Response<CursoSliceDto> getCursos(String after, int size);
+
     public Response<CursoDto> getCurso(Long id);
 
+    public Response<CursoDto> getCurso(Long id, Set<CursoCampo> campos);
+
+    public Set<CursoCampo> resolveCampos(String fields);
+
+    public Response<List<MultiGetResultDto<CursoDto>>> getCursos(List<Long> ids);
+
     public Response<CursoDto> editCurso(CursoDto cursoDto);
 
-    public Response<CursoDto> editCurso(Long id, String nuevaModalidad);
+    public Response<CursoDto> editCurso(Long id, String nuevaModalidad, Long version);
 
 
 }
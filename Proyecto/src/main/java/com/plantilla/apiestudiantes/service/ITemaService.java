@@ -1,8 +1,10 @@
 package com.plantilla.apiestudiantes.service;
 
+import com.plantilla.apiestudiantes.dto.MultiGetResultDto;
 import com.plantilla.apiestudiantes.dto.Response;
 import com.plantilla.apiestudiantes.dto.TemaDto;
 import com.plantilla.apiestudiantes.model.Tema;
+import org.springframework.data.domain.Page;
 
 import java.util.List;
 import java.util.Map;
@@ -15,6 +17,12 @@ public interface ITemaService {
 
     public Tema findById(Long id);
 
+    public Response<Page<TemaDto>> getTemas(Long cursoId, int page, int size);
+
+    public Response<TemaDto> getTema(Long id);
+
+    public Response<List<MultiGetResultDto<TemaDto>>> getTemas(List<Long> ids);
+
     // public Response<TemaDto> editTema(Long id, String nuevaModalidad);
 
 }
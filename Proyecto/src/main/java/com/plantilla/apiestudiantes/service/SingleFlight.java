@@ -0,0 +1,136 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.config.LecturaPrimaria;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+
+/**
+ * Agrupa las cargas concurrentes de una misma clave (single flight): la primera llamada ejecuta la carga
+ * y las que llegan mientras está en curso esperan su resultado en lugar de repetir la consulta.
+
+ * Las cargas se agrupan por clave y por destino de las lecturas ({@link LecturaPrimaria#requierePrimaria()}): una
+ * llamada que debe leer de la primaria nunca recibe el resultado de una carga hecha en una réplica.
+
+ * Si la carga falla, todas las llamadas que la esperaban reciben la misma excepción. Las que esperan lo hacen como
+ * máximo {@code timeout} y luego fallan con {@link QueryTimeoutException}; la carga en curso no se cancela.
+ * Al terminar, la clave se libera y la siguiente llamada vuelve a cargar.
+
+ * Métricas: {@code app.single-flight.calls} con los tags {@code name} y {@code result} ({@code load} para las cargas
+ * ejecutadas, {@code coalesced} para las llamadas que usaron una carga en curso y {@code timeout}), y
+ * {@code app.single-flight.in-flight} con las cargas en curso.
+ *
+ * @param <K> El tipo de la clave.
+ * @param <V> El tipo del valor cargado. Se comparte entre hilos, por lo que no se debe modificar.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<Carga<K>, CompletableFuture<V>> enCurso = new ConcurrentHashMap<>();
+
+    private final String nombre;
+    private final Duration timeout;
+    private final Counter cargas;
+    private final Counter agrupadas;
+    private final Counter vencidas;
+
+
+    public SingleFlight(String nombre, Duration timeout, MeterRegistry meterRegistry) {
+        this.nombre = nombre;
+        this.timeout = timeout;
+        this.cargas = contador(meterRegistry, "load");
+        this.agrupadas = contador(meterRegistry, "coalesced");
+        this.vencidas = contador(meterRegistry, "timeout");
+
+        Gauge.builder("app.single-flight.in-flight", enCurso, Map::size)
+                .description("Cargas en curso")
+                .tag("name", nombre)
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * Devuelve el resultado de la carga en curso para {@code clave} o, si no hay ninguna, ejecuta {@code cargador}
+     * en el hilo actual y comparte su resultado con las llamadas que lleguen mientras tanto.
+     *
+     * @param clave    La clave de la carga.
+     * @param cargador La carga a ejecutar. Sus excepciones se propagan sin envolver.
+     * @return El valor cargado.
+     * @throws QueryTimeoutException Si se esperó una carga en curso durante más de {@code timeout}.
+     */
+    public V execute(K clave, Supplier<V> cargador) {
+        Carga<K> carga = new Carga<>(clave, LecturaPrimaria.requierePrimaria());
+        CompletableFuture<V> propia = new CompletableFuture<>();
+        CompletableFuture<V> existente = enCurso.putIfAbsent(carga, propia);
+
+        if (existente != null) {
+            agrupadas.increment();
+            return esperar(clave, existente);
+        }
+
+        cargas.increment();
+        try {
+            V valor = cargador.get();
+            propia.complete(valor);
+            return valor;
+
+        } catch (RuntimeException | Error ex) {
+            propia.completeExceptionally(ex);
+            throw ex;
+
+        } finally {
+            enCurso.remove(carga, propia);
+        }
+    }
+
+
+
+    // Métodos privados
+
+    // Clave de las cargas en curso: la misma clave leída de la primaria y de una réplica son cargas distintas.
+    private record Carga<K>(K clave, boolean primaria) {
+    }
+
+
+    private V esperar(K clave, CompletableFuture<V> carga) {
+        try {
+            return carga.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(ex.getCause());
+
+        } catch (TimeoutException ex) {
+            vencidas.increment();
+            throw new QueryTimeoutException("Se agotó la espera de la carga de " + nombre + " " + clave, ex);
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("Se interrumpió la espera de la carga de " + nombre + " " + clave, ex);
+        }
+    }
+
+
+    private Counter contador(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("app.single-flight.calls")
+                .description("Llamadas agrupadas por single flight, según si ejecutaron la carga o esperaron una en curso")
+                .tag("name", nombre)
+                .tag("result", resultado)
+                .register(meterRegistry);
+    }
+}
@@ -1,15 +1,29 @@
 package com.plantilla.apiestudiantes.service;
 
+import com.plantilla.apiestudiantes.dto.MultiGetResultDto;
 import com.plantilla.apiestudiantes.dto.Response;
 import com.plantilla.apiestudiantes.dto.TemaDto;
 import com.plantilla.apiestudiantes.exception.CursoInvalidException;
 import com.plantilla.apiestudiantes.exception.TemaException;
 import com.plantilla.apiestudiantes.model.Tema;
 import com.plantilla.apiestudiantes.repository.TemaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 
 @Service
@@ -21,6 +35,24 @@ public class TemaService implements ITemaService {
     @Autowired
     private CursoService cursoService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.single-flight.timeout:5s}")
+    private Duration singleFlightTimeout;
+
+    // Agrupa las cargas concurrentes del mismo tema en getTema. Comparte el TemaDto, que es inmutable.
+    private SingleFlight<Long, Optional<TemaDto>> cargasTema;
+
+
+    @PostConstruct
+    public void iniciar() {
+        cargasTema = new SingleFlight<>("tema", singleFlightTimeout, meterRegistry);
+    }
+
 
     @Override
     public Response<TemaDto> saveTema(Tema tema) {
@@ -32,6 +64,11 @@ public class TemaService implements ITemaService {
         //Guarda el tema
         Tema temaAux = temaRepository.save(tema);
 
+        // El curso al que se asigna el tema cambia su lista de temas.
+        if (temaAux.getCurso() != null) {
+            eventPublisher.publishEvent(new CursoModificadoEvent(temaAux.getCurso().getId()));
+        }
+
         // Construye el DTO para devolver
         TemaDto temaDto = buildTemaDto(temaAux);
 
@@ -65,7 +102,7 @@ public class TemaService implements ITemaService {
                 .id_Tema(tema.getId())
                 .nombre(tema.getNombre())
                 .descripcion(tema.getDescripcion())
-                .idCurso(tema.getCurso().getId())
+                .idCurso(tema.getCurso() != null ? tema.getCurso().getId() : null)
 
                 .build();
     }
@@ -73,6 +110,7 @@ public class TemaService implements ITemaService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<Tema> findAll() {
         return temaRepository.findAll();
     }
@@ -82,6 +120,71 @@ public class TemaService implements ITemaService {
         return temaRepository.findById(id).orElse(null);
     }
 
+
+    /**
+     * Obtiene los temas de manera paginada, opcionalmente solo los de un curso.
+
+     * Los temas se leen con una proyección a {@link TemaDto} (id, nombre, descripción y id del curso),
+     * sin cargar las entidades ni su curso asociado.
+     *
+     * @param cursoId Id del curso cuyos temas se desean recuperar, o {@code null} para recuperar todos.
+     * @param page número de página que desea recuperar (comienza de 0).
+     * @param size El tamaño de la página.
+     * @return Un objeto {@link Response} con la página de temas.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Response<Page<TemaDto>> getTemas(Long cursoId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+
+        Page<TemaDto> temas = cursoId == null
+                ? temaRepository.findAllTemaDto(pageable)
+                : temaRepository.findTemaDtoByCursoId(cursoId, pageable);
+
+        return new Response<>(true, "Temas recuperados con éxito", temas);
+    }
+
+
+    /**
+     * Obtiene un tema por su id, con una proyección a {@link TemaDto}. Las llamadas concurrentes con el mismo id
+     * comparten una única consulta ({@link SingleFlight}) y su resultado o su error.
+     *
+     * @param id El identificador del tema.
+     * @return Un objeto {@link Response} con el tema encontrado.
+     * @throws TemaException Si el tema no existe.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Response<TemaDto> getTema(Long id) {
+        TemaDto temaDto = cargasTema.execute(id, () -> temaRepository.findTemaDtoById(id))
+                .orElseThrow(() -> new TemaException("El ID no existe"));
+
+        return new Response<>(true, "Tema recuperado con éxito", temaDto);
+    }
+
+    /**
+     * Obtiene varios temas por sus ids, en el orden solicitado, con un único {@code findAllById}.
+     * El id del curso se toma de la clave foránea, sin cargar el curso. Los ids que no existen
+     * se informan con {@code found = false} en lugar de fallar la consulta completa.
+     *
+     * @param ids Los identificadores de los temas; puede contener repetidos.
+     * @return Un objeto {@link Response} con un resultado por cada id solicitado.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Response<List<MultiGetResultDto<TemaDto>>> getTemas(List<Long> ids) {
+        Map<Long, TemaDto> temasDto = new HashMap<>();
+        for (Tema tema : findAllById(ids.stream().distinct().toList())) {
+            temasDto.put(tema.getId(), buildTemaDto(tema));
+        }
+
+        List<MultiGetResultDto<TemaDto>> resultados = ids.stream()
+                .map(id -> MultiGetResultDto.of(id, temasDto.get(id)))
+                .toList();
+
+        return new Response<>(true, "Se encontraron " + temasDto.size() + " temas", resultados);
+    }
+
 /*
     @Override
     public Response<TemaDto> editTema(Long id, String nuevaDescripcion) {
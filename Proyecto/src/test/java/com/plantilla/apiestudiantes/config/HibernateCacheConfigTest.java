@@ -0,0 +1,32 @@
+package com.plantilla.apiestudiantes.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que cada contexto usa su propio {@link CacheManager} para la cache de segundo nivel
+ * y que cerrarlo no cierra el del proveedor, compartido en la JVM.
+ */
+class HibernateCacheConfigTest {
+
+    @Test
+    void cerrarElCacheManagerNoCierraElPorDefecto() {
+        CacheManager porDefecto = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        HibernateCacheConfig config = new HibernateCacheConfig();
+
+        CacheManager primero = config.hibernateCacheManager(new HibernateCacheProperties());
+        CacheManager segundo = config.hibernateCacheManager(new HibernateCacheProperties());
+        primero.getCache(HibernateCacheConfig.CURSO_REGION).put(1L, "curso");
+        primero.close();
+
+        assertThat(porDefecto.isClosed()).isFalse();
+        assertThat(segundo.isClosed()).isFalse();
+        assertThat(segundo.getCache(HibernateCacheConfig.CURSO_REGION).containsKey(1L)).isFalse();
+        segundo.close();
+    }
+}
@@ -0,0 +1,75 @@
+package com.plantilla.apiestudiantes.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el ajuste de las secuencias emuladas con tablas (como las crea Hibernate en MySQL)
+ * sobre una base H2 en memoria con ids ya usados.
+ */
+class IdSequenceInitializerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private IdSequenceInitializer initializer;
+
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:secuencias;DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", ""));
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        for (String tabla : new String[]{"curso", "tema"}) {
+            jdbcTemplate.execute("CREATE TABLE " + tabla + " (id BIGINT PRIMARY KEY)");
+            jdbcTemplate.execute("CREATE TABLE " + tabla + "_seq (next_val BIGINT)");
+            jdbcTemplate.update("INSERT INTO " + tabla + "_seq VALUES (1)");
+        }
+
+        initializer = new IdSequenceInitializer();
+        ReflectionTestUtils.setField(initializer, "jdbcTemplate", jdbcTemplate);
+    }
+
+
+    @Test
+    void laSecuenciaSeAjustaPorEncimaDelIdMaximo() {
+        jdbcTemplate.update("INSERT INTO curso VALUES (1), (120)");
+        jdbcTemplate.update("INSERT INTO tema VALUES (7)");
+
+        initializer.initialize();
+
+        assertThat(nextVal("curso_seq")).isEqualTo(171);
+        assertThat(nextVal("tema_seq")).isEqualTo(58);
+    }
+
+
+    @Test
+    void unaSecuenciaMayorNoSeModifica() {
+        jdbcTemplate.update("INSERT INTO curso VALUES (120)");
+        jdbcTemplate.update("UPDATE curso_seq SET next_val = 500");
+
+        initializer.initialize();
+
+        assertThat(nextVal("curso_seq")).isEqualTo(500);
+    }
+
+
+    @Test
+    void conTablasVaciasNoSeModifica() {
+        initializer.initialize();
+
+        assertThat(nextVal("curso_seq")).isEqualTo(1);
+        assertThat(nextVal("tema_seq")).isEqualTo(1);
+    }
+
+
+
+    // Métodos privados
+
+    private long nextVal(String secuencia) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM " + secuencia, Long.class);
+    }
+}
@@ -0,0 +1,97 @@
+package com.plantilla.apiestudiantes.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica el ruteo entre primaria y réplica usando dos bases H2 en memoria,
+ * cada una con una fila que la identifica.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaria = crearBase("primaria");
+        DataSource replica = crearBase("replica");
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaria, List.of(replica)));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+
+    @AfterEach
+    void tearDown() {
+        LecturaPrimaria.limpiar();
+    }
+
+
+    @Test
+    void transaccionDeSoloLecturaVaALaReplica() {
+        transactionTemplate.setReadOnly(true);
+
+        assertThat(consultarBase()).isEqualTo("replica");
+    }
+
+
+    @Test
+    void transaccionDeEscrituraVaALaPrimaria() {
+        assertThat(consultarBase()).isEqualTo("primaria");
+    }
+
+
+    @Test
+    void sinTransaccionVaALaPrimaria() {
+        assertThat(jdbcTemplate.queryForObject("SELECT nombre FROM base", String.class)).isEqualTo("primaria");
+    }
+
+
+    @Test
+    void lecturaPrimariaActivaIgnoraLaReplica() {
+        transactionTemplate.setReadOnly(true);
+        LecturaPrimaria.activar();
+
+        assertThat(consultarBase()).isEqualTo("primaria");
+    }
+
+
+    @Test
+    void ejecutarEnLaPrimariaRestableceElEstadoAnterior() {
+        transactionTemplate.setReadOnly(true);
+
+        assertThat(LecturaPrimaria.ejecutar(this::consultarBase)).isEqualTo("primaria");
+        assertThat(LecturaPrimaria.isActiva()).isFalse();
+        assertThat(consultarBase()).isEqualTo("replica");
+    }
+
+
+
+    private String consultarBase() {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT nombre FROM base", String.class));
+    }
+
+
+    private static DataSource crearBase(String nombre) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + nombre + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS base (nombre VARCHAR(20))");
+        jdbc.update("DELETE FROM base");
+        jdbc.update("INSERT INTO base (nombre) VALUES (?)", nombre);
+        return dataSource;
+    }
+}
@@ -0,0 +1,113 @@
+package com.plantilla.apiestudiantes.config.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.plantilla.apiestudiantes.dto.CursoCampo;
+import com.plantilla.apiestudiantes.dto.CursoDto;
+import com.plantilla.apiestudiantes.dto.CursoSliceDto;
+import com.plantilla.apiestudiantes.dto.PageDto;
+import com.plantilla.apiestudiantes.dto.Response;
+import com.plantilla.apiestudiantes.model.Curso;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que los serializadores de {@link CursoJsonModule} producen el mismo JSON que la serialización por reflexión.
+ */
+class CursoJsonModuleTest {
+
+    private final ObjectMapper reflexion = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper manual = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new CursoJsonModule())
+            .build();
+
+    private final Date fechaFinalizacion = new Date();
+
+
+    @Test
+    void cursoCompletoYConCamposEnNull() throws Exception {
+        assertMismoJson(new Response<>(true, "Curso 1 recuperado con éxito.", curso(1L, List.of(3L, 4L))));
+
+        // Sin filtro, los campos en null se escriben como null.
+        assertMismoJson(new Response<>(true, null, CursoDto.builder().id(1L).nombre("Curso 1").build()));
+    }
+
+
+    @Test
+    void conFiltroSeEscribenSoloLosCamposSolicitados() throws Exception {
+        CursoDto curso = CursoDto.builder().id(1L).nombre("Curso 1").build();
+
+        JsonNode json = manual.readTree(manual.writer(CursoCamposFilter.de(EnumSet.of(CursoCampo.ID, CursoCampo.VERSION)))
+                .writeValueAsBytes(new Response<>(true, null, curso)));
+
+        // El campo solicitado se escribe aunque sea null; el resto se omite.
+        assertThat(json.get("data")).isEqualTo(manual.readTree("{\"id\": 1, \"version\": null}"));
+    }
+
+
+    @Test
+    void pagina() throws Exception {
+        PageDto<CursoDto> pagina = new PageDto<>(List.of(curso(1L, List.of()), curso(2L, List.of(5L))),
+                PageRequest.of(1, 2, Sort.by("nombre")), 40, false);
+
+        assertMismoJson(new Response<>(true, "", pagina));
+    }
+
+
+    @Test
+    void porcionPorCursorEscribeLasEntidadesComoCursoDto() throws Exception {
+        Curso curso = Curso.builder()
+                .id(1L)
+                .nombre("Curso 1")
+                .modalidad("Presencial")
+                .fecha_finalizacion(fechaFinalizacion)
+                .version(2L)
+                .build();
+        CursoSliceDto porcion = new CursoSliceDto(List.of(curso), Map.of(1L, List.of(3L, 4L)), 1, true, "MQ");
+
+        JsonNode json = manual.readTree(manual.writeValueAsBytes(new Response<>(true, "", porcion)));
+
+        assertThat(json.at("/data/content/0"))
+                .isEqualTo(reflexion.readTree(reflexion.writeValueAsBytes(curso(1L, List.of(3L, 4L)))));
+        assertThat(json.at("/data/size").asInt()).isEqualTo(1);
+        assertThat(json.at("/data/hasNext").asBoolean()).isTrue();
+        assertThat(json.at("/data/nextCursor").asText()).isEqualTo("MQ");
+    }
+
+
+
+    // Métodos privados
+
+    private void assertMismoJson(Object valor) throws Exception {
+        JsonNode esperado = reflexion.readTree(reflexion.writeValueAsBytes(valor));
+        JsonNode obtenido = manual.readTree(manual.writeValueAsBytes(valor));
+
+        assertThat(obtenido).isEqualTo(esperado);
+    }
+
+
+    private CursoDto curso(Long id, List<Long> temasId) {
+        return CursoDto.builder()
+                .id(id)
+                .nombre("Curso " + id)
+                .modalidad("Presencial")
+                .fecha_finalizacion(fechaFinalizacion)
+                .listaTemasId(temasId)
+                .version(2L)
+                .build();
+    }
+}
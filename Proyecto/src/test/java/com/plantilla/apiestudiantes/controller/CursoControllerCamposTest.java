@@ -0,0 +1,108 @@
+package com.plantilla.apiestudiantes.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que {@code fields=} omite solo los campos no solicitados, en JSON y en los formatos binarios.
+ */
+@SpringBootTest(properties = "app.seed.cursos=0")
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class CursoControllerCamposTest {
+
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    private Long cursoId;
+
+
+    @BeforeEach
+    void setUp() {
+        cursoId = cursoRepository.save(Curso.builder()
+                .nombre("Curso campos")
+                .modalidad("Virtual")
+                .fecha_finalizacion(new Date())
+                .habilitado(true)
+                .build()).getId();
+    }
+
+
+    @AfterEach
+    void tearDown() {
+        cursoRepository.deleteAllInBatch();
+    }
+
+
+    @Test
+    void mostrarCursoSinFechaDevuelveSoloLosCamposSolicitados() throws Exception {
+        mockMvc.perform(get("/curso/mostrar/{id}", cursoId).param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(cursoId))
+                .andExpect(jsonPath("$.data.nombre").doesNotExist())
+                .andExpect(jsonPath("$.data.fecha_finalizacion").doesNotExist());
+    }
+
+
+    @Test
+    void listarCursosOmiteLosCamposNoSolicitados() throws Exception {
+        mockMvc.perform(get("/cursos/listar").param("fields", "id,nombre"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].nombre").value("Curso campos"))
+                .andExpect(jsonPath("$.data.content[0].modalidad").doesNotExist())
+                .andExpect(jsonPath("$.data.content[0].listaTemasId").doesNotExist());
+
+        // Sin fields= se escriben todos los campos.
+        mockMvc.perform(get("/cursos/listar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].modalidad").value("Virtual"))
+                .andExpect(jsonPath("$.data.content[0].listaTemasId").isEmpty());
+    }
+
+
+    @Test
+    void mostrarCursoEnCborOmiteLosCamposNoSolicitados() throws Exception {
+        byte[] mostrado = mockMvc.perform(get("/curso/mostrar/{id}", cursoId)
+                        .param("fields", "nombre")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode curso = cbor.readTree(mostrado).get("data");
+
+        assertThat(curso.get("nombre").asText()).isEqualTo("Curso campos");
+        assertThat(curso.has("id")).isFalse();
+    }
+
+
+    @Test
+    void fieldsSinNingunCampoRespondeBadRequest() throws Exception {
+        mockMvc.perform(get("/curso/mostrar/{id}", cursoId).param("fields", ","))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/cursos/listar").param("fields", ","))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,35 @@
+package com.plantilla.apiestudiantes.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Verifica que el tiempo máximo de la exportación se aplica solo a esa solicitud asíncrona.
+ */
+@SpringBootTest(properties = {"app.seed.cursos=0", "app.curso.export.timeout=45m", "spring.mvc.async.request-timeout=5s"})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class CursoControllerExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+
+    @Test
+    void laExportacionUsaSuPropioTimeout() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/cursos/exportar"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(resultado.getRequest().getAsyncContext().getTimeout()).isEqualTo(45 * 60 * 1000L);
+    }
+}
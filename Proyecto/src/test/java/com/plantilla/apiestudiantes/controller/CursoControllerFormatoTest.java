@@ -0,0 +1,119 @@
+package com.plantilla.apiestudiantes.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica la negociación de formatos: JSON por defecto y CBOR con {@code Accept} / {@code Content-Type}.
+ */
+@SpringBootTest(properties = "app.seed.cursos=0")
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class CursoControllerFormatoTest {
+
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+
+    @AfterEach
+    void tearDown() {
+        cursoRepository.deleteAllInBatch();
+    }
+
+
+    @Test
+    void crearYMostrarCursoEnCbor() throws Exception {
+        byte[] cuerpo = cbor.writeValueAsBytes(Map.of(
+                "nombre", "Curso CBOR",
+                "modalidad", "Virtual",
+                "fecha_finalizacion", "2099-12-01",
+                "habilitado", true));
+
+        byte[] creado = mockMvc.perform(post("/curso/crear")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cuerpo))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        long id = cbor.readTree(creado).at("/data/id").asLong();
+
+        byte[] mostrado = mockMvc.perform(get("/curso/mostrar/{id}", id).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode curso = cbor.readTree(mostrado).get("data");
+
+        assertThat(curso.get("nombre").asText()).isEqualTo("Curso CBOR");
+    }
+
+
+    @Test
+    void jsonEsElFormatoPorDefecto() throws Exception {
+        mockMvc.perform(get("/cursos/listar").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+
+    @Test
+    void cadaFormatoTieneSuPropioEtag() throws Exception {
+        Long id = cursoRepository.save(Curso.builder()
+                .nombre("Curso formatos")
+                .modalidad("Virtual")
+                .fecha_finalizacion(new Date())
+                .habilitado(true)
+                .build()).getId();
+
+        for (String url : new String[] {"/curso/mostrar/" + id, "/cursos/listar"}) {
+            String etagJson = mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // El ETag de JSON no valida la respuesta CBOR, que tiene el suyo.
+            String etagCbor = mockMvc.perform(get(url)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .header(HttpHeaders.IF_NONE_MATCH, etagJson))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(etagCbor).isNotEqualTo(etagJson);
+
+            mockMvc.perform(get(url)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .header(HttpHeaders.IF_NONE_MATCH, etagCbor))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        }
+    }
+}
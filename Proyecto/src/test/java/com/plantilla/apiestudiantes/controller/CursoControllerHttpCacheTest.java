@@ -0,0 +1,106 @@
+package com.plantilla.apiestudiantes.controller;
+
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica las solicitudes condicionales (ETag / If-None-Match) de las lecturas de cursos.
+ */
+@SpringBootTest(properties = "app.seed.cursos=0")
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class CursoControllerHttpCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    private Long cursoId;
+
+
+    @BeforeEach
+    void setUp() {
+        cursoId = cursoRepository.save(Curso.builder()
+                .nombre("Curso etag")
+                .modalidad("Virtual")
+                .fecha_finalizacion(new Date())
+                .habilitado(true)
+                .build()).getId();
+    }
+
+
+    @AfterEach
+    void tearDown() {
+        cursoRepository.deleteAllInBatch();
+    }
+
+
+    @Test
+    void listarCursosRespondeNotModifiedHastaQueCambiaElCatalogo() throws Exception {
+        String etag = mockMvc.perform(get("/cursos/listar"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/cursos/listar").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/curso/crear")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"nombre": "Curso nuevo", "modalidad": "Virtual", "fecha_finalizacion": "2099-12-31", "habilitado": true}
+                                """))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/cursos/listar").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+
+    @Test
+    void mostrarCursoQuitaDeLaCacheLasRespuestasDeTodosLosIdiomasAlModificarlo() throws Exception {
+        for (String idioma : new String[] {"es", "en"}) {
+            mockMvc.perform(get("/curso/mostrar/{id}", cursoId).header(HttpHeaders.ACCEPT_LANGUAGE, idioma))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.modalidad").value("Virtual"));
+        }
+
+        mockMvc.perform(patch("/curso/modificar/{id}", cursoId).param("modalidad", "Presencial"))
+                .andExpect(status().isOk());
+
+        for (String idioma : new String[] {"es", "en"}) {
+            mockMvc.perform(get("/curso/mostrar/{id}", cursoId).header(HttpHeaders.ACCEPT_LANGUAGE, idioma))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.modalidad").value("Presencial"))
+                    .andExpect(jsonPath("$.data.version").value(1));
+        }
+    }
+
+
+    @Test
+    void mostrarCursoInexistenteRespondeNotFound() throws Exception {
+        mockMvc.perform(get("/curso/mostrar/{id}", cursoId + 1000))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/curso/mostrar/{id}", cursoId + 1000).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isNotFound());
+    }
+}
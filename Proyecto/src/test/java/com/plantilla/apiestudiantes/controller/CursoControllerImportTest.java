@@ -0,0 +1,88 @@
+package com.plantilla.apiestudiantes.controller;
+
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que la importación rechaza el contenido inválido o demasiado grande antes de guardar el primer lote.
+ */
+@SpringBootTest(properties = {"app.seed.cursos=0", "app.curso.import.batch-size=2", "app.curso.import.max-items=3"})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class CursoControllerImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+
+    @AfterEach
+    void tearDown() {
+        cursoRepository.deleteAllInBatch();
+    }
+
+
+    @Test
+    void importarCursosGuardaTodosLosLotes() throws Exception {
+        mockMvc.perform(post("/cursos/importar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + cursosJson(3) + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[2].success").value(true));
+
+        assertThat(cursoRepository.count()).isEqualTo(3);
+    }
+
+
+    @Test
+    void importarMasCursosQueElMaximoNoGuardaNinguno() throws Exception {
+        mockMvc.perform(post("/cursos/importar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + cursosJson(4) + "]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        assertThat(cursoRepository.count()).isZero();
+    }
+
+
+    @Test
+    void importarContenidoInvalidoDespuesDelPrimerLoteNoGuardaNinguno() throws Exception {
+        mockMvc.perform(post("/cursos/importar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + cursosJson(2) + ", {\"nombre\": "))
+                .andExpect(status().isBadRequest());
+
+        assertThat(cursoRepository.count()).isZero();
+    }
+
+
+
+    // Métodos privados
+
+    private String cursosJson(int cantidad) {
+        return IntStream.range(0, cantidad)
+                .mapToObj(i -> """
+                        {"nombre": "Importado %d", "modalidad": "Virtual", "fecha_finalizacion": "2099-12-31"}
+                        """.formatted(i))
+                .collect(Collectors.joining(","));
+    }
+}
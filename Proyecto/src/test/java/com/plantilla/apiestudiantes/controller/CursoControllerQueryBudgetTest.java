@@ -0,0 +1,140 @@
+package com.plantilla.apiestudiantes.controller;
+
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.model.Tema;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import com.plantilla.apiestudiantes.repository.TemaRepository;
+import com.plantilla.apiestudiantes.service.CursoTotalCache;
+import com.plantilla.apiestudiantes.support.QueryBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Presupuesto de sentencias SQL de las lecturas de cursos, medido de punta a punta con el encabezado
+ * {@code X-Query-Count}. Usa el perfil {@code h2} sin dataset generado.
+ */
+@SpringBootTest(properties = {"app.seed.cursos=0", "app.query-count.header=true"})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class CursoControllerQueryBudgetTest {
+
+    private static final int CANTIDAD_CURSOS = 10;
+    private static final int TEMAS_POR_CURSO = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private TemaRepository temaRepository;
+
+    @Autowired
+    private CursoTotalCache cursoTotalCache;
+
+    private Long primerCursoId;
+
+    private final List<String> cursosId = new ArrayList<>();
+
+    private final List<String> temasId = new ArrayList<>();
+
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CANTIDAD_CURSOS; i++) {
+            Curso curso = cursoRepository.save(Curso.builder()
+                    .nombre("Curso " + i)
+                    .modalidad("Virtual")
+                    .fecha_finalizacion(new Date())
+                    .habilitado(true)
+                    .build());
+
+            if (primerCursoId == null) {
+                primerCursoId = curso.getId();
+            }
+            cursosId.add(curso.getId().toString());
+
+            for (int j = 0; j < TEMAS_POR_CURSO; j++) {
+                Tema tema = temaRepository.save(Tema.builder()
+                        .nombre("Tema " + i + "-" + j)
+                        .curso(curso)
+                        .build());
+                temasId.add(tema.getId().toString());
+            }
+        }
+    }
+
+
+    @AfterEach
+    void tearDown() {
+        temaRepository.deleteAllInBatch();
+        cursoRepository.deleteAllInBatch();
+    }
+
+
+    @Test
+    void mostrarCursoNoCargaLosTemasUnoPorUno() throws Exception {
+        // Versión del curso, curso e ids de sus temas.
+        mockMvc.perform(get("/curso/mostrar/{id}", primerCursoId))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(3));
+    }
+
+
+    @Test
+    void listarCursosNoCargaLosTemasPorCurso() throws Exception {
+        // Página de cursos, total e ids de los temas de la página. La versión del catálogo está en memoria.
+        mockMvc.perform(get("/cursos/listar").param("size", "10").param("totalExacto", "true"))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(3));
+    }
+
+
+    @Test
+    void listarCursosSinFiltrosNoCuentaLosCursos() throws Exception {
+        cursoTotalCache.refrescar();
+
+        // Porción de cursos e ids de sus temas: el total y la versión del catálogo están en memoria.
+        mockMvc.perform(get("/cursos/listar").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(CANTIDAD_CURSOS))
+                .andExpect(jsonPath("$.data.totalExacto").value(false))
+                .andExpect(QueryBudget.atMost(2));
+    }
+
+
+    @Test
+    void obtenerCursosPorIdsUsaDosConsultas() throws Exception {
+        // Cursos con findAllById e ids de los temas agrupados; el id inexistente no agrega consultas.
+        mockMvc.perform(get("/cursos").param("ids", String.join(",", cursosId) + ",-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(CANTIDAD_CURSOS + 1))
+                .andExpect(jsonPath("$.data[0].id").value(primerCursoId))
+                .andExpect(jsonPath("$.data[" + CANTIDAD_CURSOS + "].found").value(false))
+                .andExpect(QueryBudget.atMost(2));
+    }
+
+
+    @Test
+    void obtenerTemasPorIdsNoCargaLosCursos() throws Exception {
+        mockMvc.perform(get("/temas").param("ids", String.join(",", temasId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(CANTIDAD_CURSOS * TEMAS_POR_CURSO))
+                .andExpect(QueryBudget.atMost(1));
+    }
+}
@@ -0,0 +1,111 @@
+package com.plantilla.apiestudiantes.controller;
+
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.Date;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que, con una réplica atrasada, una escritura es visible para los demás clientes en las lecturas que pasan
+ * por las caches compartidas (cache de cursos, respuestas serializadas y cache de segundo nivel).
+
+ * La réplica es otra base H2 que recibe una copia de la primaria solo cuando el test la sincroniza, por lo que queda
+ * atrasada después de cada escritura. Cada solicitud de MockMvc se hace sin cookies, como un cliente distinto.
+ */
+@SpringBootTest(properties = {
+        "app.seed.cursos=0",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.nodes[0].url=" + CursoControllerReplicaTest.REPLICA_URL})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class CursoControllerReplicaTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-atrasada;DB_CLOSE_DELAY=-1;MODE=MySQL";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long cursoId;
+
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cursoId = cursoRepository.save(Curso.builder()
+                .nombre("Curso replica")
+                .modalidad("Virtual")
+                .fecha_finalizacion(new Date())
+                .habilitado(true)
+                .build()).getId();
+        sincronizarReplica();
+
+        // Un cliente lee el curso antes de la modificación, por lo que queda en las caches.
+        mockMvc.perform(get("/curso/mostrar/{id}", cursoId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.modalidad").value("Virtual"));
+    }
+
+
+    @AfterEach
+    void tearDown() {
+        cursoRepository.deleteAllInBatch();
+    }
+
+
+    @Test
+    void otroClienteLeeLaModificacionAunqueLaReplicaEsteAtrasada() throws Exception {
+        mockMvc.perform(patch("/curso/modificar/{id}", cursoId).param("modalidad", "Presencial"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists("lectura-primaria-hasta"));
+
+        // El listado de otro cliente va a la réplica, que todavía no tiene la modificación.
+        mockMvc.perform(get("/cursos/listar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].modalidad").value("Virtual"));
+
+        // La lectura del curso se cachea, por lo que se carga de la primaria; la segunda sale de la cache.
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/curso/mostrar/{id}", cursoId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.modalidad").value("Presencial"));
+        }
+    }
+
+
+
+    // Métodos privados
+
+    // Reemplaza el contenido de la réplica por una copia de la primaria (fuera de una transacción se lee de la primaria).
+    private void sincronizarReplica() {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("DROP ALL OBJECTS");
+        for (String sentencia : new JdbcTemplate(dataSource).queryForList("SCRIPT", String.class)) {
+            // SCRIPT incluye comentarios con la cantidad de filas de cada tabla.
+            if (!sentencia.startsWith("--")) {
+                replica.execute(sentencia);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.plantilla.apiestudiantes.controller;
+
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que las restricciones de los parámetros de los controladores responden 400 con la respuesta estándar.
+ */
+@SpringBootTest(properties = "app.seed.cursos=0")
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class CursoControllerValidationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+
+    @Test
+    void obtenerCursosSinIdsRespondeBadRequest() throws Exception {
+        for (String url : new String[] {"/cursos", "/temas"}) {
+            mockMvc.perform(get(url).param("ids", ""))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.message").value("Errores de validación en los parámetros."))
+                    .andExpect(jsonPath("$.data.ids").exists());
+        }
+    }
+
+
+    @Test
+    void obtenerCursosConMasDe200IdsRespondeBadRequest() throws Exception {
+        String ids = IntStream.rangeClosed(1, 201)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(","));
+
+        for (String url : new String[] {"/cursos", "/temas"}) {
+            mockMvc.perform(get(url).param("ids", ids))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.data.ids").exists());
+        }
+    }
+
+
+    @Test
+    void buscarCursosConLimiteFueraDeRangoRespondeBadRequest() throws Exception {
+        for (String limit : new String[] {"0", "101"}) {
+            mockMvc.perform(get("/cursos/buscar").param("q", "java").param("limit", limit))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.data.limit").exists());
+        }
+    }
+
+
+    @Test
+    void modificarConModalidadInvalidaRespondeBadRequest() throws Exception {
+        Long cursoId = cursoRepository.save(Curso.builder()
+                .nombre("Curso modalidad")
+                .modalidad("Virtual")
+                .fecha_finalizacion(new Date())
+                .habilitado(true)
+                .build()).getId();
+
+        try {
+            mockMvc.perform(patch("/curso/modificar/{id}", cursoId).param("modalidad", "Hibrida"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false))
+                    .andExpect(jsonPath("$.message").value("La modalidad Hibrida es incorrecta."));
+
+            assertThat(cursoRepository.findById(cursoId)).get()
+                    .extracting(Curso::getModalidad, Curso::getVersion)
+                    .containsExactly("Virtual", 0L);
+        } finally {
+            cursoRepository.deleteById(cursoId);
+        }
+    }
+}
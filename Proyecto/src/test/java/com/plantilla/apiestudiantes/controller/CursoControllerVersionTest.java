@@ -0,0 +1,105 @@
+package com.plantilla.apiestudiantes.controller;
+
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica el control de concurrencia optimista de las modificaciones de cursos: una versión desactualizada
+ * responde 409 y no modifica el curso.
+ */
+@SpringBootTest(properties = "app.seed.cursos=0")
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class CursoControllerVersionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    private Long cursoId;
+
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cursoId = cursoRepository.save(Curso.builder()
+                .nombre("Curso version")
+                .modalidad("Virtual")
+                .fecha_finalizacion(new Date())
+                .habilitado(true)
+                .build()).getId();
+
+        // Otra solicitud modifica el curso: la versión pasa de 0 a 1.
+        mockMvc.perform(patch("/curso/modificar/{id}", cursoId).param("modalidad", "Presencial"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(1));
+    }
+
+
+    @AfterEach
+    void tearDown() {
+        cursoRepository.deleteAllInBatch();
+    }
+
+
+    @Test
+    void modificarConVersionDesactualizadaRespondeConflicto() throws Exception {
+        mockMvc.perform(put("/curso/modificar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cursoJson("Curso modificado", 0L)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false));
+
+        assertThat(cursoRepository.findById(cursoId)).get()
+                .extracting(Curso::getNombre, Curso::getVersion)
+                .containsExactly("Curso version", 1L);
+    }
+
+
+    @Test
+    void modificarConVersionActualGuardaLosCambios() throws Exception {
+        mockMvc.perform(put("/curso/modificar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cursoJson("Curso modificado", 1L)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nombre").value("Curso modificado"))
+                .andExpect(jsonPath("$.data.version").value(2));
+    }
+
+
+    @Test
+    void modificarModalidadConVersionDesactualizadaRespondeConflicto() throws Exception {
+        mockMvc.perform(patch("/curso/modificar/{id}", cursoId)
+                        .param("modalidad", "Virtual")
+                        .param("version", "0"))
+                .andExpect(status().isConflict());
+    }
+
+
+
+    // Métodos privados
+
+    private String cursoJson(String nombre, Long version) {
+        return """
+                {"id": %d, "nombre": "%s", "modalidad": "Virtual", "fecha_finalizacion": "2099-12-31", "version": %d}
+                """.formatted(cursoId, nombre, version);
+    }
+}
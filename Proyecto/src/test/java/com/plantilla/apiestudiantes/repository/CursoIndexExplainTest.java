@@ -0,0 +1,240 @@
+package com.plantilla.apiestudiantes.repository;
+
+import com.plantilla.apiestudiantes.config.CacheConfig;
+import com.plantilla.apiestudiantes.dto.CursoCampo;
+import com.plantilla.apiestudiantes.dto.CursoDto;
+import com.plantilla.apiestudiantes.dto.CursoFiltroDto;
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.model.Tema;
+import com.plantilla.apiestudiantes.service.CursoDtoCache;
+import com.plantilla.apiestudiantes.service.CursoService;
+import com.plantilla.apiestudiantes.service.CursoTotalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica con {@code EXPLAIN} de H2 que la consulta que genera el listado filtrado de cursos recorre un índice en el
+ * orden pedido para cada combinación de filtros y orden que tiene índice, que el resto se admite y se cuenta como
+ * ordenamiento en memoria, y que la de temas por curso usa su índice.
+
+ * Se explica el SQL que Hibernate genera a partir de {@link CursoSpecifications} y del orden de {@link CursoService},
+ * capturado con un {@link StatementInspector}. H2 informa {@code index sorted} cuando no ordena en memoria (el
+ * equivalente a que MySQL no muestre {@code Using filesort}); solo lo hace con órdenes ascendentes.
+ */
+@DataJpaTest
+@Import({CursoService.class, CursoDtoCache.class, CursoTotalCache.class, CacheConfig.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(MessageSourceAutoConfiguration.class)
+class CursoIndexExplainTest {
+
+    private static final int CANTIDAD_CURSOS = 200;
+
+    private static final List<String> SENTENCIAS = new CopyOnWriteArrayList<>();
+
+    private static final LocalDate DESDE = LocalDate.of(2025, 2, 1);
+    private static final LocalDate HASTA = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private CursoService cursoService;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private TemaRepository temaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+
+    @TestConfiguration
+    static class CapturaSql {
+
+        @Bean
+        HibernatePropertiesCustomizer capturaSqlCustomizer() {
+            StatementInspector inspector = sql -> {
+                SENTENCIAS.add(sql);
+                return sql;
+            };
+            return propiedades -> propiedades.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+
+    @BeforeEach
+    void setUp() {
+        LocalDate inicio = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < CANTIDAD_CURSOS; i++) {
+            Curso curso = cursoRepository.save(Curso.builder()
+                    .nombre("Curso " + i)
+                    .modalidad(i % 2 == 0 ? "Virtual" : "Presencial")
+                    .fecha_finalizacion(Date.valueOf(inicio.plusDays(i)))
+                    .habilitado(i % 3 != 0)
+                    .build());
+
+            temaRepository.save(Tema.builder()
+                    .nombre("Tema " + i)
+                    .curso(curso)
+                    .build());
+        }
+        entityManager.flush();
+
+        // Actualiza la selectividad de las columnas para que el optimizador elija por costo con datos reales.
+        entityManager.createNativeQuery("ANALYZE").executeUpdate();
+    }
+
+
+    @Test
+    void cadaCombinacionConIndiceLoRecorreEnOrden() {
+        for (String modalidad : new String[] {null, "Virtual"}) {
+            for (Boolean habilitado : new Boolean[] {null, Boolean.TRUE}) {
+                // Orden por id (por defecto), sin rango.
+                assertIndexSorted(new CursoFiltroDto(modalidad, habilitado, null, null, null, null), null);
+
+                // Orden por fecha de finalización, con y sin rango (con rango es el orden por defecto).
+                assertIndexSorted(new CursoFiltroDto(modalidad, habilitado, null, null, null, null), "fecha_finalizacion");
+                assertIndexSorted(new CursoFiltroDto(modalidad, habilitado, DESDE, HASTA, null, null), null);
+            }
+        }
+
+        // Sin filtros de igualdad también se admite el orden por fecha de creación y por nombre.
+        assertIndexSorted(CursoFiltroDto.SIN_FILTROS, "fechaCreacion");
+        assertIndexSorted(new CursoFiltroDto(null, null, null, null, DESDE, HASTA), null);
+        assertIndexSorted(CursoFiltroDto.SIN_FILTROS, "nombre");
+    }
+
+
+    @Test
+    void lasCombinacionesSinIndiceSeAdmitenYSeCuentan() {
+        assertOrdenadoEnMemoria(new CursoFiltroDto("Virtual", null, null, null, null, null), "fechaCreacion", "fechaCreacion");
+        assertOrdenadoEnMemoria(new CursoFiltroDto(null, true, null, null, DESDE, HASTA), null, "fechaCreacion");
+        assertOrdenadoEnMemoria(new CursoFiltroDto(null, true, null, null, null, null), "nombre", "nombre");
+        assertOrdenadoEnMemoria(new CursoFiltroDto(null, null, DESDE, HASTA, null, null), "id", "id");
+        assertOrdenadoEnMemoria(new CursoFiltroDto(null, null, DESDE, HASTA, DESDE, HASTA), null, "fecha_finalizacion");
+    }
+
+
+    @Test
+    void elFiltroDeModalidadNoDistingueMayusculas() {
+        List<CursoDto> cursos = cursoService.getCursos(new CursoFiltroDto("virtual", null, null, null, null, null),
+                0, 10, null, true, EnumSet.of(CursoCampo.ID, CursoCampo.MODALIDAD)).data().getContent();
+
+        assertThat(cursos).hasSize(10).allSatisfy(curso -> assertThat(curso.modalidad()).isEqualTo("Virtual"));
+    }
+
+
+    @Test
+    void temasPorCursoUsaIndiceDeCursoId() {
+        String plan = entityManager.createNativeQuery("EXPLAIN SELECT id FROM tema WHERE curso_id = 1")
+                .getSingleResult().toString();
+
+        assertThat(plan).contains("IDX_TEMA_CURSO_ID");
+    }
+
+
+
+    // Métodos privados
+
+    private void assertIndexSorted(CursoFiltroDto filtro, String sort) {
+        String plan = explainListado(filtro, sort);
+
+        assertThat(plan)
+                .as("filtro %s, orden %s", filtro, sort)
+                .contains("index sorted");
+    }
+
+
+    private void assertOrdenadoEnMemoria(CursoFiltroDto filtro, String sort, String campo) {
+        double anteriores = meterRegistry.counter("curso.listado.filesort", "sort", campo).count();
+
+        assertThat(cursoService.getCursos(filtro, 0, 10, sort, true, EnumSet.of(CursoCampo.ID)).success())
+                .as("filtro %s, orden %s", filtro, sort)
+                .isTrue();
+        assertThat(meterRegistry.counter("curso.listado.filesort", "sort", campo).count())
+                .as("filtro %s, orden %s", filtro, sort)
+                .isEqualTo(anteriores + 1);
+    }
+
+
+    // Ejecuta el listado, toma el SQL de la página (el único con ORDER BY) y lo explica con los mismos parámetros.
+    private String explainListado(CursoFiltroDto filtro, String sort) {
+        SENTENCIAS.clear();
+        cursoService.getCursos(filtro, 0, 10, sort, true, EnumSet.of(CursoCampo.ID));
+        String sql = SENTENCIAS.stream()
+                .filter(sentencia -> sentencia.contains(" order by "))
+                .findFirst()
+                .orElseThrow();
+
+        List<Object> parametros = parametros(filtro);
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int indice = 1;
+                for (Object parametro : parametros) {
+                    statement.setObject(indice++, parametro);
+                }
+                // Paginación de la primera página: OFFSET (si Hibernate lo incluye) y FETCH FIRST.
+                if (statement.getParameterMetaData().getParameterCount() - parametros.size() == 2) {
+                    statement.setInt(indice++, 0);
+                }
+                statement.setInt(indice, 10);
+
+                try (ResultSet plan = statement.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            }
+        });
+    }
+
+
+    // Los parámetros en el orden en que CursoSpecifications agrega los predicados.
+    private static List<Object> parametros(CursoFiltroDto filtro) {
+        List<Object> parametros = new ArrayList<>();
+        if (filtro.modalidad() != null) {
+            parametros.add(filtro.modalidad());
+        }
+        if (filtro.habilitado() != null) {
+            parametros.add(filtro.habilitado());
+        }
+        if (filtro.finalizacionDesde() != null) {
+            parametros.add(Date.valueOf(filtro.finalizacionDesde()));
+        }
+        if (filtro.finalizacionHasta() != null) {
+            parametros.add(Date.valueOf(filtro.finalizacionHasta()));
+        }
+        if (filtro.creacionDesde() != null) {
+            parametros.add(filtro.creacionDesde().atStartOfDay());
+        }
+        if (filtro.creacionHasta() != null) {
+            parametros.add(filtro.creacionHasta().plusDays(1).atStartOfDay());
+        }
+        return parametros;
+    }
+}
@@ -0,0 +1,209 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifica el agrupamiento de las modificaciones de modalidad, la escritura directa con la cola llena y la detención.
+ */
+class CursoModalidadBatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CursoRepository cursoRepository = mock(CursoRepository.class);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // Lotes recibidos por el repositorio, en orden.
+    private final List<Map<Long, String>> lotes = new CopyOnWriteArrayList<>();
+
+    // El lote que incluye el curso 1 se bloquea hasta liberar, como una escritura lenta.
+    private final CountDownLatch escribiendo = new CountDownLatch(1);
+    private final CountDownLatch liberar = new CountDownLatch(1);
+    private boolean bloquearCurso1;
+
+    private CursoModalidadBatcher batcher;
+
+
+    @BeforeEach
+    void setUp() {
+        when(cursoRepository.updateModalidades(anyMap())).thenAnswer(invocation -> {
+            Map<Long, String> argumento = invocation.getArgument(0);
+            Map<Long, String> modalidades = Map.copyOf(argumento);
+            lotes.add(modalidades);
+            if (bloquearCurso1 && modalidades.containsKey(1L)) {
+                escribiendo.countDown();
+                esperarSinInterrupcion(liberar);
+            }
+            int[] filas = new int[modalidades.size()];
+            Arrays.fill(filas, 1);
+            return filas;
+        });
+    }
+
+
+    @AfterEach
+    void tearDown() throws Exception {
+        liberar.countDown();
+        if (batcher != null) {
+            batcher.detener();
+        }
+        executor.shutdownNow();
+    }
+
+
+    @Test
+    void lasModificacionesConcurrentesSeEscribenEnUnLote() throws Exception {
+        batcher = iniciar(4, Duration.ofSeconds(10), 100, Duration.ofSeconds(10));
+
+        List<Future<Boolean>> resultados = List.of(
+                lanzar(1L, "Virtual"), lanzar(2L, "Virtual"), lanzar(1L, "Presencial"), lanzar(3L, "Virtual"));
+
+        for (Future<Boolean> resultado : resultados) {
+            assertThat(resultado.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        // Cuatro solicitudes, un único lote con tres cursos distintos.
+        assertThat(lotes).hasSize(1);
+        assertThat(lotes.get(0)).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(meterRegistry.get("curso.modalidad.batch.size").summary().count()).isEqualTo(1);
+    }
+
+
+    @Test
+    void conLaColaLlenaSeEscribeEnElHiloActual() throws Exception {
+        bloquearCurso1 = true;
+        batcher = iniciar(1, Duration.ofMillis(10), 1, Duration.ofSeconds(10));
+
+        Future<Boolean> enEscritura = lanzar(1L, "Virtual");
+        assertThat(escribiendo.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Boolean> encolada = lanzar(2L, "Virtual");
+        esperarHasta(() -> cola() == 1);
+
+        // La cola está llena y el escritor ocupado: la tercera se escribe sola, sin esperar al lote en curso.
+        assertThat(batcher.actualizarModalidad(3L, "Presencial")).isTrue();
+        assertThat(lotes).contains(Map.of(3L, "Presencial"));
+        assertThat(enEscritura).isNotDone();
+
+        liberar.countDown();
+        assertThat(enEscritura.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(encolada.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+
+    @Test
+    void alDetenerseEscribeLoPendiente() throws Exception {
+        batcher = iniciar(10, Duration.ofSeconds(10), 100, Duration.ofSeconds(10));
+
+        Future<Boolean> pendiente = lanzar(1L, "Virtual");
+        batcher.detener();
+
+        assertThat(pendiente.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lotes).containsExactly(Map.of(1L, "Virtual"));
+
+        // Detenido, cada modificación se escribe en el hilo que la pide.
+        assertThat(batcher.actualizarModalidad(2L, "Presencial")).isTrue();
+        assertThat(lotes).contains(Map.of(2L, "Presencial"));
+    }
+
+
+    @Test
+    void alDetenerseConElEscritorOcupadoNoEscribeEnParalelo() throws Exception {
+        bloquearCurso1 = true;
+        batcher = iniciar(1, Duration.ofMillis(10), 10, Duration.ofMillis(100));
+
+        Future<Boolean> enEscritura = lanzar(1L, "Virtual");
+        assertThat(escribiendo.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Boolean> encolada = lanzar(1L, "Presencial");
+        esperarHasta(() -> cola() == 1);
+
+        batcher.detener();
+
+        // La modificación encolada no se escribe mientras el lote anterior del mismo curso sigue en curso.
+        assertThatThrownBy(() -> encolada.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(lotes).containsExactly(Map.of(1L, "Virtual"));
+
+        liberar.countDown();
+        assertThat(enEscritura.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+
+
+    // Métodos privados
+
+    private CursoModalidadBatcher iniciar(int maxSize, Duration maxDelay, int queueCapacity, Duration shutdownTimeout) {
+        CursoModalidadBatcher nuevo = new CursoModalidadBatcher();
+        ReflectionTestUtils.setField(nuevo, "cursoRepository", cursoRepository);
+        ReflectionTestUtils.setField(nuevo, "transactionTemplate",
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(nuevo, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(nuevo, "maxSize", maxSize);
+        ReflectionTestUtils.setField(nuevo, "maxDelay", maxDelay);
+        ReflectionTestUtils.setField(nuevo, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(nuevo, "shutdownTimeout", shutdownTimeout);
+        nuevo.iniciar();
+        return nuevo;
+    }
+
+
+    private Future<Boolean> lanzar(Long id, String modalidad) {
+        return executor.submit(() -> batcher.actualizarModalidad(id, modalidad));
+    }
+
+
+    private double cola() {
+        return meterRegistry.get("curso.modalidad.batch.queue").gauge().value();
+    }
+
+
+    private static void esperarHasta(BooleanSupplier condicion) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicion.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(limite);
+            Thread.sleep(5);
+        }
+    }
+
+
+    // Como una escritura JDBC, no se interrumpe al detener el escritor.
+    private static void esperarSinInterrupcion(CountDownLatch latch) {
+        boolean interrumpido = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException ex) {
+                interrumpido = true;
+            }
+        }
+        if (interrumpido) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.dto.CursoBusquedaDto;
+import com.plantilla.apiestudiantes.dto.TemaDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica la búsqueda sobre el trie: la relevancia de cada coincidencia, la expansión de prefijos con su límite y
+ * la poda de los nodos al eliminar cursos.
+ */
+class CursoSearchIndexTest {
+
+    private final CursoSearchIndex indice = new CursoSearchIndex();
+
+
+    @Test
+    void laCoincidenciaExactaPrecedeALaDePrefijo() {
+        indice.indexar(1L, "Javascript", List.of());
+        indice.indexar(2L, "Java", List.of());
+
+        List<CursoBusquedaDto> cursos = indice.buscar("java", 10).cursos();
+
+        assertThat(cursos).extracting(CursoBusquedaDto::id).containsExactly(2L, 1L);
+        assertThat(cursos).extracting(CursoBusquedaDto::score).containsExactly(3.0, 1.5);
+    }
+
+
+    @Test
+    void elNombrePrecedeAlTemaYElTemaALaDescripcion() {
+        indice.indexar(1L, "Otro", List.of(new TemaDto(10L, "Intro", "Redes locales", 1L)));
+        indice.indexar(2L, "Redes", List.of());
+        indice.indexar(3L, "Curso", List.of(new TemaDto(30L, "Redes", null, 3L)));
+
+        List<CursoBusquedaDto> cursos = indice.buscar("redes", 10).cursos();
+
+        assertThat(cursos).extracting(CursoBusquedaDto::id).containsExactly(2L, 3L, 1L);
+        assertThat(cursos).extracting(CursoBusquedaDto::score).containsExactly(3.0, 2.0, 1.0);
+        assertThat(cursos).extracting(CursoBusquedaDto::temasId).containsExactly(List.of(), List.of(30L), List.of(10L));
+    }
+
+
+    @Test
+    void unCursoDebeCoincidirConTodasLasPalabrasSinDistinguirMayusculasNiAcentos() {
+        indice.indexar(1L, "Programación en Java", List.of());
+        indice.indexar(2L, "Programación en Python", List.of());
+
+        List<CursoBusquedaDto> cursos = indice.buscar("PROGRAMACION jav", 10).cursos();
+
+        assertThat(cursos).extracting(CursoBusquedaDto::id).containsExactly(1L);
+        assertThat(cursos.get(0).score()).isEqualTo(3.0 + 1.5);
+    }
+
+
+    @Test
+    void reindexarReemplazaLasPalabrasAnteriores() {
+        indice.indexar(1L, "Java", List.of());
+        indice.indexar(1L, "Python", List.of());
+
+        assertThat(indice.buscar("java", 10).cursos()).isEmpty();
+        assertThat(indice.buscar("python", 10).cursos()).extracting(CursoBusquedaDto::id).containsExactly(1L);
+    }
+
+
+    @Test
+    void laExpansionRecorreEnAnchuraYPrefiereLasPalabrasMasFrecuentes() {
+        // Una palabra corta con un curso y 71 largas: 70 con un curso cada una y una con tres.
+        indice.indexar(1L, "abc", List.of());
+        for (long i = 0; i < 70; i++) {
+            indice.indexar(100 + i, "ab%02d".formatted(i), List.of());
+        }
+        for (long id = 200; id < 203; id++) {
+            indice.indexar(id, "ab99", List.of());
+        }
+
+        CursoSearchIndex.Resultado resultado = indice.buscar("ab", 1000);
+
+        // 64 palabras: la corta, la frecuente y 62 de las demás.
+        assertThat(resultado.cursos()).hasSize(1 + 3 + 62);
+        assertThat(resultado.cursos()).extracting(CursoBusquedaDto::id).contains(1L, 200L, 201L, 202L);
+        assertThat(resultado.truncadas()).containsExactly("ab");
+    }
+
+
+    @Test
+    void sinPalabrasPendientesLaExpansionNoSeInformaTruncada() {
+        for (long i = 0; i < 64; i++) {
+            indice.indexar(100 + i, "ab%02d".formatted(i), List.of());
+        }
+        indice.indexar(1L, "ab00xyz", List.of());
+
+        assertThat(indice.buscar("ab", 1000).truncadas()).containsExactly("ab");
+
+        // Al eliminar el curso se podan los nodos de "xyz"; si quedaran, la expansión se seguiría informando truncada.
+        indice.eliminar(1L);
+
+        CursoSearchIndex.Resultado resultado = indice.buscar("ab", 1000);
+        assertThat(resultado.cursos()).hasSize(64);
+        assertThat(resultado.truncadas()).isEmpty();
+        assertThat(indice.buscar("ab00xyz", 10).cursos()).isEmpty();
+    }
+
+
+    @Test
+    void eliminarNoPodaLasPalabrasDeOtrosCursos() {
+        indice.indexar(1L, "Java", List.of());
+        indice.indexar(2L, "Javascript", List.of());
+        indice.indexar(3L, "Java", List.of());
+
+        indice.eliminar(2L);
+        indice.eliminar(3L);
+
+        assertThat(indice.buscar("java", 10).cursos()).extracting(CursoBusquedaDto::id).containsExactly(1L);
+        assertThat(indice.size()).isEqualTo(1);
+    }
+}
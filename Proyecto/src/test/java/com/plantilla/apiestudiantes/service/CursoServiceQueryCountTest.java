@@ -0,0 +1,144 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.config.CacheConfig;
+import com.plantilla.apiestudiantes.dto.CursoCampo;
+import com.plantilla.apiestudiantes.dto.CursoDto;
+import com.plantilla.apiestudiantes.dto.CursoFiltroDto;
+import com.plantilla.apiestudiantes.dto.PageDto;
+import com.plantilla.apiestudiantes.dto.Response;
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.model.Tema;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import com.plantilla.apiestudiantes.repository.TemaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica la cantidad de sentencias SQL que ejecuta cada lectura de cursos,
+ * para que el problema N+1 al cargar los temas no vuelva a aparecer.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CursoService.class, CursoDtoCache.class, CursoTotalCache.class, CacheConfig.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(MessageSourceAutoConfiguration.class)
+class CursoServiceQueryCountTest {
+
+    private static final int CANTIDAD_CURSOS = 20;
+    private static final int TEMAS_POR_CURSO = 3;
+
+    @Autowired
+    private CursoService cursoService;
+
+    @Autowired
+    private CursoTotalCache cursoTotalCache;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private TemaRepository temaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Long primerCursoId;
+
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CANTIDAD_CURSOS; i++) {
+            Curso curso = cursoRepository.save(Curso.builder()
+                    .nombre("Curso " + i)
+                    .modalidad("Virtual")
+                    .fecha_finalizacion(new Date())
+                    .habilitado(true)
+                    .build());
+
+            if (primerCursoId == null) {
+                primerCursoId = curso.getId();
+            }
+
+            for (int j = 0; j < TEMAS_POR_CURSO; j++) {
+                temaRepository.save(Tema.builder()
+                        .nombre("Tema " + i + "-" + j)
+                        .curso(curso)
+                        .build());
+            }
+        }
+
+        // Vacía el contexto de persistencia para que las lecturas vayan a la base de datos.
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+
+    @Test
+    void getCursosUsaUnaCantidadAcotadaDeConsultas() {
+        Response<Page<CursoDto>> response = cursoService.getCursos(0, 10);
+
+        // Página + conteo + ids de temas agrupados, sin importar el tamaño de la página.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(response.data().getContent()).hasSize(10)
+                .allSatisfy(curso -> assertThat(curso.listaTemasId()).hasSize(TEMAS_POR_CURSO));
+    }
+
+
+    @Test
+    void getCursosConTotalAproximadoNoCuentaLosCursos() {
+        cursoTotalCache.refrescar();
+        statistics.clear();
+
+        Response<Page<CursoDto>> response = cursoService.getCursos(CursoFiltroDto.SIN_FILTROS, 0, 10, null, false,
+                CursoCampo.TODOS);
+
+        // Página (size + 1 filas) + ids de temas agrupados, sin COUNT(*).
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(response.data().getTotalElements()).isEqualTo(CANTIDAD_CURSOS);
+        assertThat(((PageDto<CursoDto>) response.data()).isTotalExacto()).isFalse();
+    }
+
+
+    @Test
+    void getCursosSinListaTemasIdNoConsultaLosTemas() {
+        Response<Page<CursoDto>> response = cursoService.getCursos(CursoFiltroDto.SIN_FILTROS, 0, 10, null, true,
+                cursoService.resolveCampos("nombre,modalidad"));
+
+        // Página + conteo, sin la consulta de ids de temas.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(response.data().getContent()).hasSize(10)
+                .allSatisfy(curso -> {
+                    assertThat(curso.nombre()).isNotNull();
+                    assertThat(curso.id()).isNull();
+                    assertThat(curso.listaTemasId()).isNull();
+                });
+    }
+
+
+    @Test
+    void getCursoUsaDosConsultas() {
+        Response<CursoDto> response = cursoService.getCurso(primerCursoId);
+
+        // Curso + ids de temas.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(response.data().listaTemasId()).hasSize(TEMAS_POR_CURSO);
+    }
+
+}
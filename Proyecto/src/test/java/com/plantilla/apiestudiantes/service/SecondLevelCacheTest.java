@@ -0,0 +1,127 @@
+package com.plantilla.apiestudiantes.service;
+
+import com.plantilla.apiestudiantes.config.CacheConfig;
+import com.plantilla.apiestudiantes.config.HibernateCacheConfig;
+import com.plantilla.apiestudiantes.model.Curso;
+import com.plantilla.apiestudiantes.model.Tema;
+import com.plantilla.apiestudiantes.repository.CursoRepository;
+import com.plantilla.apiestudiantes.repository.TemaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que las lecturas repetidas de cursos y temas se resuelvan desde la cache
+ * de segundo nivel de Hibernate, sin volver a la base de datos.
+
+ * Se ejecuta sin la transacción del test para que cada llamada use su propio contexto de persistencia,
+ * como ocurre en una solicitud real.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CursoService.class, TemaService.class, CursoDtoCache.class, CursoTotalCache.class, CacheConfig.class, HibernateCacheConfig.class,
+        SimpleMeterRegistry.class})
+@ImportAutoConfiguration(MessageSourceAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CursoService cursoService;
+
+    @Autowired
+    private TemaService temaService;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private TemaRepository temaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long cursoId;
+
+    private Long temaId;
+
+
+    @BeforeEach
+    void setUp() {
+        Curso curso = cursoRepository.save(Curso.builder()
+                .nombre("Cache Curso")
+                .modalidad("Presencial")
+                .fecha_finalizacion(new Date())
+                .habilitado(true)
+                .build());
+        Tema tema = temaRepository.save(Tema.builder()
+                .nombre("Cache Tema")
+                .curso(curso)
+                .build());
+
+        cursoId = curso.getId();
+        temaId = tema.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+
+    @AfterEach
+    void tearDown() {
+        temaRepository.deleteAll();
+        cursoRepository.deleteAll();
+    }
+
+
+    @Test
+    void findByIdCursoNoVuelveALaBaseDeDatos() {
+        cursoService.findByIdCurso(cursoId);
+        long sentencias = statistics.getPrepareStatementCount();
+
+        cursoService.findByIdCurso(cursoId);
+        cursoService.findByIdCurso(cursoId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(sentencias);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(2);
+    }
+
+
+    @Test
+    void findByIdTemaNoVuelveALaBaseDeDatos() {
+        temaService.findById(temaId);
+        long sentencias = statistics.getPrepareStatementCount();
+
+        temaService.findById(temaId);
+        temaService.findById(temaId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(sentencias);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(2);
+    }
+
+
+    @Test
+    void modificarModalidadQuitaElCursoDeLaCache() {
+        cursoService.findByIdCurso(cursoId);
+
+        cursoService.editCurso(cursoId, "Virtual", null);
+
+        assertThat(cursoService.findByIdCurso(cursoId).getModalidad()).isEqualTo("Virtual");
+    }
+
+}
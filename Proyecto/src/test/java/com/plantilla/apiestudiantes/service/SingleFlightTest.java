@@ -0,0 +1,136 @@
+package com.plantilla.apiestudiantes.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que las llamadas concurrentes con la misma clave comparten una única carga, su resultado y su error.
+ */
+class SingleFlightTest {
+
+    private static final int LLAMADAS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(LLAMADAS);
+
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+
+    @Test
+    void llamadasConcurrentesCompartenUnaCarga() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger cargas = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        List<Future<String>> resultados = lanzar(() -> singleFlight.execute(1L, () -> {
+            cargas.incrementAndGet();
+            esperar(liberar);
+            return "curso 1";
+        }));
+        esperarAgrupadas(LLAMADAS - 1);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            assertThat(resultado.get(5, TimeUnit.SECONDS)).isEqualTo("curso 1");
+        }
+        assertThat(cargas).hasValue(1);
+        assertThat(contador("load")).isEqualTo(1);
+        assertThat(contador("coalesced")).isEqualTo(LLAMADAS - 1);
+    }
+
+
+    @Test
+    void elErrorDeLaCargaSePropagaATodas() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        List<Future<String>> resultados = lanzar(() -> singleFlight.execute(1L, () -> {
+            esperar(liberar);
+            throw new IllegalArgumentException("no existe");
+        }));
+        esperarAgrupadas(LLAMADAS - 1);
+        liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            assertThatThrownBy(() -> resultado.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+
+    @Test
+    void laEsperaVencePorTimeout() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        Future<String> carga = executor.submit(() -> singleFlight.execute(1L, () -> {
+            esperar(liberar);
+            return "curso 1";
+        }));
+        while (meterRegistry.get("app.single-flight.in-flight").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> "otra carga"))
+                .isInstanceOf(QueryTimeoutException.class);
+        assertThat(contador("timeout")).isEqualTo(1);
+
+        liberar.countDown();
+        assertThat(carga.get(5, TimeUnit.SECONDS)).isEqualTo("curso 1");
+    }
+
+
+
+    private List<Future<String>> lanzar(Callable<String> llamada) {
+        List<Future<String>> resultados = new ArrayList<>();
+        for (int i = 0; i < LLAMADAS; i++) {
+            resultados.add(executor.submit(llamada));
+        }
+        return resultados;
+    }
+
+
+    private void esperarAgrupadas(int cantidad) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (contador("coalesced") < cantidad && System.nanoTime() < limite) {
+            Thread.sleep(1);
+        }
+    }
+
+
+    private double contador(String resultado) {
+        return meterRegistry.get("app.single-flight.calls").tag("result", resultado).counter().count();
+    }
+
+
+    private static void esperar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.plantilla.apiestudiantes.support;
+
+import com.plantilla.apiestudiantes.config.QueryCountHeaderAdvice;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica con MockMvc la cantidad de sentencias SQL que ejecuta un endpoint, a partir del encabezado
+ * {@code X-Query-Count}. El test debe iniciar la aplicación con {@code app.query-count.header=true}.
+
+ * <pre>
+ * mockMvc.perform(get("/curso/mostrar/{id}", id)).andExpect(QueryBudget.atMost(3));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryCountHeaderAdvice.HEADER);
+            assertThat(header)
+                    .as("Encabezado %s (¿app.query-count.header=true?)", QueryCountHeaderAdvice.HEADER)
+                    .isNotNull();
+            assertThat(Integer.parseInt(header))
+                    .as("Sentencias SQL de %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(maxStatements);
+        };
+    }
+}